@@ -0,0 +1,59 @@
+package org.nextme.userservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.nextme.userservice.domain.repository.AdminUserField;
+import org.nextme.userservice.domain.repository.AdminUserRow;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 관리자 유저 검색 응답 DTO (1행)
+ * - JSON 에는 fields 로 요청한 필드만 내려가고, 요청한 필드는 값이 null 이어도 null 로 내려간다.
+ *   (요청하지 않은 필드와 값이 없는 필드를 클라이언트가 구분할 수 있도록)
+ */
+public record AdminUserResponse(
+        UUID userId,
+        String userName,
+        String name,
+        String role,
+        String status,
+        String advisorStatus,
+        LocalDateTime createdAt,
+        Set<AdminUserField> fields
+) {
+
+    public static AdminUserResponse from(AdminUserRow row, Set<AdminUserField> fields) {
+        return new AdminUserResponse(
+                fields.contains(AdminUserField.USER_ID) ? row.userId() : null,
+                row.userName(),
+                row.name(),
+                row.role() != null ? row.role().name() : null,
+                row.status() != null ? row.status().name() : null,
+                row.advisorStatus() != null ? row.advisorStatus().name() : null,
+                fields.contains(AdminUserField.CREATED_AT) ? row.createdAt() : null,
+                fields
+        );
+    }
+
+    /** 요청한 필드만 선언 순서대로 (null 포함) */
+    @JsonValue
+    public Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (AdminUserField field : fields) {
+            json.put(field.jsonName(), switch (field) {
+                case USER_ID -> userId;
+                case USER_NAME -> userName;
+                case NAME -> name;
+                case ROLE -> role;
+                case STATUS -> status;
+                case ADVISOR_STATUS -> advisorStatus;
+                case CREATED_AT -> createdAt;
+            });
+        }
+        return json;
+    }
+}
@@ -0,0 +1,17 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.List;
+
+/**
+ * 관리자 유저 검색 응답 DTO (keyset 페이지 + 추정 건수)
+ *
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 된다. (마지막 페이지면 null)
+ * - estimatedTotal: 통계 기반 추정치 (정확한 count 아님, 추정할 수 없으면 null)
+ */
+public record AdminUserSearchResponse(
+        List<AdminUserResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        Long estimatedTotal
+) {
+}
@@ -0,0 +1,18 @@
+package org.nextme.userservice.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 어드바이저 일괄 승인/거절 요청 DTO
+ */
+public record AdvisorBatchRequest(
+
+        @NotEmpty(message = "처리할 유저 ID 목록은 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500명까지 처리할 수 있습니다.")
+        List<UUID> userIds
+) {
+}
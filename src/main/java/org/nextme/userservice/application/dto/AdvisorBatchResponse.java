@@ -0,0 +1,31 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 어드바이저 일괄 승인/거절 결과 DTO
+ *
+ * - results: 요청한 userId 순서대로 처리 결과
+ *   - outcome: APPLIED(이번 요청으로 처리됨) / NOT_PENDING(신청 대기 상태가 아님) / NOT_FOUND
+ *   - advisorStatus: 처리 이후 현재 상태 (NOT_FOUND 면 null)
+ */
+public record AdvisorBatchResponse(
+        int requested,
+        int applied,
+        List<Result> results
+) {
+
+    public enum Outcome {
+        APPLIED,
+        NOT_PENDING,
+        NOT_FOUND
+    }
+
+    public record Result(
+            UUID userId,
+            Outcome outcome,
+            String advisorStatus
+    ) {
+    }
+}
@@ -1,7 +1,9 @@
 package org.nextme.userservice.application.dto;
 
-import org.nextme.userservice.domain.User;
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.repository.PendingAdvisorRow;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -12,16 +14,18 @@ public record AdvisorCandidateResponse(
         String userName,
         String name,
         String role,
-        String advisorStatus
+        String advisorStatus,
+        LocalDateTime requestedAt
 ) {
 
-    public static AdvisorCandidateResponse from(User user) {
+    public static AdvisorCandidateResponse from(PendingAdvisorRow row) {
         return new AdvisorCandidateResponse(
-                user.getId().getId(),
-                user.getUserName(),
-                user.getName(),
-                user.getRole().name(),
-                user.getAdvisorStatus().name()
+                row.userId(),
+                row.userName(),
+                row.name(),
+                row.role().name(),
+                AdvisorStatus.PENDING.name(),
+                row.requestedAt()
         );
     }
 }
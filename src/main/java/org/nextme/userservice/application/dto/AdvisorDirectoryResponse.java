@@ -0,0 +1,69 @@
+package org.nextme.userservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryEntry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 어드바이저 디렉터리 검색 응답 DTO (공개 프로필)
+ * - JSON 에는 fields 로 요청한 필드만 내려가고, 요청한 필드는 값이 null 이어도 null 로 내려간다.
+ */
+public record AdvisorDirectoryResponse(
+        UUID userId,
+        String name,
+        String mainCategory,
+        String intro,
+        Integer careerYears,
+        Set<Field> fields
+) {
+
+    /** fields 파라미터로 고를 수 있는 응답 필드 */
+    public enum Field {
+        USER_ID("userId"),
+        NAME("name"),
+        MAIN_CATEGORY("mainCategory"),
+        INTRO("intro"),
+        CAREER_YEARS("careerYears");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String jsonName() {
+            return jsonName;
+        }
+    }
+
+    public static AdvisorDirectoryResponse from(AdvisorDirectoryEntry entry, Set<Field> fields) {
+        return new AdvisorDirectoryResponse(
+                fields.contains(Field.USER_ID) ? entry.userId() : null,
+                fields.contains(Field.NAME) ? entry.name() : null,
+                fields.contains(Field.MAIN_CATEGORY) ? entry.mainCategory() : null,
+                fields.contains(Field.INTRO) ? entry.intro() : null,
+                fields.contains(Field.CAREER_YEARS) ? entry.careerYears() : null,
+                fields
+        );
+    }
+
+    /** 요청한 필드만 선언 순서대로 (null 포함) */
+    @JsonValue
+    public Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (Field field : fields) {
+            json.put(field.jsonName(), switch (field) {
+                case USER_ID -> userId;
+                case NAME -> name;
+                case MAIN_CATEGORY -> mainCategory;
+                case INTRO -> intro;
+                case CAREER_YEARS -> careerYears;
+            });
+        }
+        return json;
+    }
+}
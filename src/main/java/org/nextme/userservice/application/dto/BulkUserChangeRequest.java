@@ -0,0 +1,48 @@
+package org.nextme.userservice.application.dto;
+
+import jakarta.validation.constraints.Size;
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.AdminUserSearchCondition;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자 일괄 상태/권한 변경 요청 DTO
+ *
+ * - 대상: userIds 또는 filter 중 하나만 지정
+ * - 변경: status / role 중 하나 이상 (null 인 쪽은 그대로 둠)
+ * - afterUserId: filter 대상 처리가 중간에 멈췄을 때 이전 응답의 resumeAfterUserId 를 넣어 이어서 처리
+ */
+public record BulkUserChangeRequest(
+
+        @Size(max = 1000, message = "userIds 는 한 번에 최대 1000명까지 지정할 수 있습니다.")
+        List<UUID> userIds,
+
+        Filter filter,
+
+        UserStatus status,
+
+        UserRole role,
+
+        UUID afterUserId
+) {
+
+    /**
+     * 대상 유저 조건 (관리자 유저 검색과 같은 조건, 하나 이상 필요)
+     */
+    public record Filter(
+            UserStatus status,
+            UserRole role,
+            AdvisorStatus advisorStatus,
+            String userNamePrefix,
+            String namePrefix
+    ) {
+
+        public AdminUserSearchCondition toCondition() {
+            return new AdminUserSearchCondition(status, role, advisorStatus, userNamePrefix, namePrefix);
+        }
+    }
+}
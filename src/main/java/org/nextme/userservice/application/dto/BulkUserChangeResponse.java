@@ -0,0 +1,26 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자 일괄 상태/권한 변경 결과 DTO
+ *
+ * - changed: 실제로 값이 바뀐 유저 수 (이미 같은 상태/권한이던 유저는 제외)
+ * - resumeAfterUserId: filter 대상 처리가 중간에 멈춘 경우(최대 처리 수 도달 / 청크 실패) 마지막으로 커밋된 userId
+ *   (요청의 afterUserId 로 넣어 다시 보내면 이어서 처리, 끝까지 처리했으면 null)
+ * - unprocessedUserIds: userIds 대상 처리가 청크 실패로 멈춘 경우 아직 처리하지 않은 userId (끝까지 처리했으면 null)
+ * - errorCode: 청크 실패로 멈춘 경우 그 사유 (앞 청크들은 이미 커밋되어 changed 에 포함, 성공이면 null)
+ */
+public record BulkUserChangeResponse(
+        int chunks,
+        int changed,
+        UUID resumeAfterUserId,
+        List<UUID> unprocessedUserIds,
+        String errorCode
+) {
+
+    public static BulkUserChangeResponse completed(int chunks, int changed, UUID resumeAfterUserId) {
+        return new BulkUserChangeResponse(chunks, changed, resumeAfterUserId, null, null);
+    }
+}
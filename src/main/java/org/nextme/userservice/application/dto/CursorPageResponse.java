@@ -0,0 +1,19 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답 DTO
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 된다.
+ * - 마지막 페이지면 nextCursor = null, hasNext = false
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponse<>(content, nextCursor, nextCursor != null);
+    }
+}
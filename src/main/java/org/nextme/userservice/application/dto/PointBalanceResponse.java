@@ -0,0 +1,6 @@
+package org.nextme.userservice.application.dto;
+
+// 포인트 사용 후 잔액 응답
+public record PointBalanceResponse(
+        long point
+) {}
@@ -0,0 +1,15 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 포인트 랭킹 조회 응답 DTO
+ * - rank 는 1 부터 시작
+ * - Redis 랭킹만 조회하므로 userId / point 외의 유저 정보는 포함하지 않음
+ */
+public record PointRankResponse(
+        long rank,
+        UUID userId,
+        long point
+) {
+}
@@ -0,0 +1,25 @@
+package org.nextme.userservice.application.dto;
+
+import org.nextme.userservice.domain.PointReservation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 포인트 예약 응답 DTO
+ * - expiresAt 까지 확정하지 않으면 자동 해제(환불)된다.
+ */
+public record PointReservationResponse(
+        UUID reservationId,
+        long amount,
+        LocalDateTime expiresAt
+) {
+
+    public static PointReservationResponse from(PointReservation reservation) {
+        return new PointReservationResponse(
+                reservation.getId(),
+                reservation.getAmount(),
+                reservation.getExpiresAt()
+        );
+    }
+}
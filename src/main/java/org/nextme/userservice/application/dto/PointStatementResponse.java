@@ -0,0 +1,29 @@
+package org.nextme.userservice.application.dto;
+
+import org.nextme.userservice.domain.PointDailyRollup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 포인트 명세(일별/프로모션별 집계) 응답 DTO
+ * - 프로모션과 무관한 적립은 promotionId / promotionName 이 null
+ */
+public record PointStatementResponse(
+        LocalDate date,
+        UUID promotionId,
+        String promotionName,
+        long amount,
+        long earnCount
+) {
+
+    public static PointStatementResponse from(PointDailyRollup rollup) {
+        return new PointStatementResponse(
+                rollup.getRollupDate(),
+                rollup.isPromotion() ? rollup.getPromotionId() : null,
+                rollup.getPromotionName(),
+                rollup.getTotalAmount(),
+                rollup.getEarnCount()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package org.nextme.userservice.application.dto;
+
+// 포인트 사용/예약 요청
+public record SpendPointRequest(
+        Long amount
+) {}
@@ -0,0 +1,31 @@
+package org.nextme.userservice.application.dto;
+
+import java.util.List;
+
+/**
+ * 유저 일괄 가져오기 결과 DTO
+ *
+ * - total   : 읽은 데이터 행 수 (헤더/빈 줄 제외)
+ * - imported: 생성된 유저 수
+ * - failed  : 실패한 행 수
+ * - errors  : 행 단위 실패 사유 (최대 개수까지만, 넘치면 errorsTruncated = true)
+ */
+public record UserImportResponse(
+        long total,
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * @param line 입력 파일 기준 줄 번호 (1부터, CSV 헤더 포함)
+     */
+    public record RowError(
+            long line,
+            String userName,
+            String code,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.nextme.userservice.application.dto;
+
+/**
+ * 유저 일괄 가져오기 입력 1행 (CSV 한 줄 / NDJSON 한 줄)
+ *
+ * - password / passwordHash 는 둘 중 하나만 (둘 다 없으면 비밀번호 미설정 유저로 생성)
+ *   - password    : 평문, 서버에서 BCrypt 해시
+ *   - passwordHash: 기존 시스템의 BCrypt 해시 그대로 ($2a$ / $2b$ / $2y$)
+ */
+public record UserImportRow(
+        String userName,
+        String password,
+        String passwordHash,
+        String name,
+        String slackId,
+        String email
+) {
+}
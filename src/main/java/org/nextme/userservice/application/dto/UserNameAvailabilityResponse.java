@@ -0,0 +1,11 @@
+package org.nextme.userservice.application.dto;
+
+/**
+ * 로그인 ID 사용 가능 여부 응답 DTO
+ * - available 은 조회 시점 기준이다. 실제 가입 시 중복이면 DUPLICATED_USERNAME 으로 실패할 수 있다.
+ */
+public record UserNameAvailabilityResponse(
+        String userName,
+        boolean available
+) {
+}
@@ -0,0 +1,22 @@
+package org.nextme.userservice.application.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 유저 통계 DTO
+ *
+ * - byRole / byStatus / byAdvisorStatus: 값별 유저 수 (0 인 값도 포함)
+ * - signupsPerDay: 최근 days 일의 일별 가입 수 (오래된 날짜부터)
+ * - reconciledAt: 마지막 전체 재계산 시각 (그 이후는 증분 반영분)
+ */
+public record UserStatsResponse(
+        long total,
+        Map<String, Long> byRole,
+        Map<String, Long> byStatus,
+        Map<String, Long> byAdvisorStatus,
+        Map<LocalDate, Long> signupsPerDay,
+        LocalDateTime reconciledAt
+) {
+}
@@ -80,6 +80,155 @@ public enum ErrorCode {
                     "비활성화되었거나 정지된 계정입니다."
     ),
 
+    // ==== 포인트 관련 에러 ====
+
+    INVALID_POINT_AMOUNT(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_POINT_AMOUNT",
+            "포인트는 0보다 커야 합니다."
+    ),
+
+    INSUFFICIENT_POINT(
+            HttpStatus.CONFLICT,
+            "INSUFFICIENT_POINT",
+            "포인트 잔액이 부족합니다."
+    ),
+
+    /**
+     * 예약이 없거나 이미 확정/해제(만료)된 경우
+     */
+    POINT_RESERVATION_NOT_ACTIVE(
+            HttpStatus.CONFLICT,
+            "POINT_RESERVATION_NOT_ACTIVE",
+            "유효한 포인트 예약이 아닙니다."
+    ),
+
+    /**
+     * 커서 기반 목록 조회 시 cursor 파라미터를 해석할 수 없는 경우
+     */
+    INVALID_CURSOR(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_CURSOR",
+            "유효하지 않은 커서입니다."
+    ),
+
+    /**
+     * 검색 키워드가 너무 짧은 경우 (2자 미만)
+     */
+    INVALID_SEARCH_KEYWORD(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_SEARCH_KEYWORD",
+            "검색어는 2자 이상 입력해야 합니다."
+    ),
+
+    /**
+     * 같은 유저를 동시에 수정해 낙관적 락 충돌이 재시도 후에도 계속된 경우
+     */
+    CONCURRENT_UPDATE_CONFLICT(
+            HttpStatus.CONFLICT,
+            "CONCURRENT_UPDATE_CONFLICT",
+            "다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요."
+    ),
+
+    /**
+     * 일괄 가져오기 파일 형식 오류 (지원하지 않는 Content-Type, CSV 헤더 누락 등)
+     */
+    INVALID_IMPORT_FORMAT(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_IMPORT_FORMAT",
+            "가져오기 파일 형식이 올바르지 않습니다."
+    ),
+
+    /**
+     * 내보내기 형식이 ndjson / csv 가 아닌 경우
+     */
+    INVALID_EXPORT_FORMAT(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_EXPORT_FORMAT",
+            "지원하지 않는 내보내기 형식입니다. (ndjson, csv)"
+    ),
+
+    /**
+     * Idempotency-Key 헤더 값이 너무 긴 경우
+     */
+    INVALID_IDEMPOTENCY_KEY(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_IDEMPOTENCY_KEY",
+            "Idempotency-Key 는 128자 이하여야 합니다."
+    ),
+
+    /**
+     * 같은 Idempotency-Key 의 첫 요청이 대기 시간 안에 끝나지 않은 경우
+     */
+    IDEMPOTENT_REQUEST_IN_PROGRESS(
+            HttpStatus.CONFLICT,
+            "IDEMPOTENT_REQUEST_IN_PROGRESS",
+            "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."
+    ),
+
+    /**
+     * 같은 Idempotency-Key 로 method / URI / 본문이 다른 요청을 보낸 경우
+     */
+    IDEMPOTENCY_KEY_REUSED(
+            HttpStatus.UNPROCESSABLE_ENTITY,
+            "IDEMPOTENCY_KEY_REUSED",
+            "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."
+    ),
+
+    /**
+     * 복원하려는 유저가 아카이브에 없는 경우
+     */
+    ARCHIVED_USER_NOT_FOUND(
+            HttpStatus.NOT_FOUND,
+            "ARCHIVED_USER_NOT_FOUND",
+            "아카이브된 유저가 없습니다."
+    ),
+
+    /**
+     * 아카이브 이후 같은 user_name / 소셜 계정을 다른 유저가 사용 중이라 복원할 수 없는 경우
+     */
+    USER_RESTORE_CONFLICT(
+            HttpStatus.CONFLICT,
+            "USER_RESTORE_CONFLICT",
+            "아이디 또는 소셜 계정이 이미 다른 유저에게 사용 중이라 복원할 수 없습니다."
+    ),
+
+    /**
+     * 일괄 상태/권한 변경 요청에 대상(userIds / filter 중 하나)이나 변경할 값(status / role)이 없는 경우
+     */
+    INVALID_BULK_CHANGE(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_BULK_CHANGE",
+            "userIds 또는 filter 중 하나와, 변경할 status / role 이 필요합니다."
+    ),
+
+    /**
+     * 일괄 상태/권한 변경 후 ACTIVE 상태의 MASTER 가 한 명도 남지 않게 되는 경우
+     */
+    LAST_ACTIVE_MASTER_REQUIRED(
+            HttpStatus.CONFLICT,
+            "LAST_ACTIVE_MASTER_REQUIRED",
+            "ACTIVE 상태의 MASTER 가 최소 한 명은 남아 있어야 합니다."
+    ),
+
+    /**
+     * 일괄 상태/권한 변경 중 청크 처리에 실패한 경우 (앞 청크들은 이미 반영됨)
+     */
+    BULK_CHANGE_INTERRUPTED(
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            "BULK_CHANGE_INTERRUPTED",
+            "일괄 변경 중 오류가 발생해 처리를 멈췄습니다."
+    ),
+
+    /**
+     * fields 파라미터에 응답에 없는 필드명이 들어온 경우
+     */
+    INVALID_FIELDS(
+            HttpStatus.BAD_REQUEST,
+            "INVALID_FIELDS",
+            "지원하지 않는 응답 필드입니다."
+    ),
+
     /**
      * 토큰 관련 (필요시 추가)
      */
@@ -1,33 +1,39 @@
 package org.nextme.userservice.application.evnt;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.nextme.userservice.application.evnt.dto.UserPointEarnedMessage;
+import org.nextme.userservice.application.service.PointEarnBatchService;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class MessageListener {
 
+    private final PointEarnBatchService pointEarnBatchService;
+
     @KafkaListener(
             topics = "user.point.earned",          // 새 토픽 이름
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory"
             // groupId 는 application.yml 에서 설정했으니 여기서는 생략해도 됨
     )
-    public void listen(UserPointEarnedMessage message,
-                       @Header(KafkaHeaders.RECEIVED_KEY) String key) {
+    public void listen(List<ConsumerRecord<String, UserPointEarnedMessage>> records) {
+        log.info("[pointEarn] received batch. size={}", records.size());
 
-        System.out.printf(
-                "수신 key=%s, userId=%s, amount=%d, promotionId=%s, promotionName=%s, earnedAt=%s%n",
-                key,
-                message.getUserId(),
-                message.getAmount(),
-                message.getPromotionId(),
-                message.getPromotionName(),
-                message.getEarnedAt()
-        );
+        // 메시지 키 = topic-partition-offset (재전달 시에도 같은 값 → 중복 반영 방지)
+        Map<String, UserPointEarnedMessage> messages = new LinkedHashMap<>();
+        for (ConsumerRecord<String, UserPointEarnedMessage> record : records) {
+            messages.put(record.topic() + "-" + record.partition() + "-" + record.offset(), record.value());
+        }
 
-        // TODO: 여기서 포인트 적립 비즈니스 로직 호출하면 됨
-        // pointService.earnPoint(...);
+        // 포인트 적립 + 일별 집계를 한 트랜잭션으로 반영 (커밋 이후 랭킹 반영)
+        pointEarnBatchService.applyEarnings(messages);
     }
 }
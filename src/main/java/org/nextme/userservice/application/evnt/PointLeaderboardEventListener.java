@@ -0,0 +1,31 @@
+package org.nextme.userservice.application.evnt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.infrastructure.ranking.RedisPointLeaderboard;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 포인트 변경 이벤트 → Redis 랭킹 반영
+ *
+ * - 커밋된 포인트만 랭킹에 반영되도록 AFTER_COMMIT 에서 처리
+ * - Redis 반영 실패는 요청을 실패시키지 않고, 정합성 보정 잡(PointLeaderboardReconciler)에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLeaderboardEventListener {
+
+    private final RedisPointLeaderboard leaderboard;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPointChanged(UserPointChangedEvent event) {
+        try {
+            leaderboard.updateScore(event.userId(), event.point());
+        } catch (RuntimeException e) {
+            log.warn("[pointLeaderboard] score update failed. userId={}", event.userId(), e);
+        }
+    }
+}
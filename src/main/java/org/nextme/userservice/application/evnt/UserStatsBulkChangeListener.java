@@ -0,0 +1,31 @@
+package org.nextme.userservice.application.evnt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.application.evnt.dto.UserBulkChangedEvent;
+import org.nextme.userservice.infrastructure.cache.RedisUserStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 벌크 UPDATE / JDBC 변경(엔티티 리스너를 타지 않는 경로) → 대시보드 통계 재계산 요청
+ *
+ * - 어드바이저 일괄 승인/거절, 관리자 일괄 변경, 아카이브/복원 모두 UserBulkChangedEvent 를 발행한다.
+ * - 실제 재계산은 UserStatsReconcileJob 이 다음 확인 주기에 한 번만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsBulkChangeListener {
+
+    private final RedisUserStats userStats;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(UserBulkChangedEvent event) {
+        try {
+            userStats.markDirty();
+        } catch (RuntimeException e) {
+            log.warn("[userStats] mark dirty failed. reason={}, cause={}", event.reason(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.nextme.userservice.application.evnt;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.userservice.application.evnt.dto.UserBulkChangedEvent;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.infrastructure.cache.RedisUserVersionStamp;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 벌크 UPDATE(엔티티 리스너를 타지 않는 경로) → version 스탬프 캐시 무효화
+ *
+ * - 포인트 적립/차감, 어드바이저 일괄 승인/거절 모두 version 을 올리므로 같이 무효화한다.
+ * - 새 version 을 모르므로 삭제 대신 표식을 남긴다. (커밋 전에 읽은 옛 version 이 다시 채워지지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserVersionStampEventListener {
+
+    private final RedisUserVersionStamp versionStamp;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPointChanged(UserPointChangedEvent event) {
+        versionStamp.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(UserBulkChangedEvent event) {
+        versionStamp.invalidateAll(event.userIds());
+    }
+}
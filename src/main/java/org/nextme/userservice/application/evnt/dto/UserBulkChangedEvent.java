@@ -0,0 +1,16 @@
+package org.nextme.userservice.application.evnt.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 유저의 상태/권한이 한 번의 set-based UPDATE 로 변경되었을 때 발행되는 애플리케이션 내부 이벤트
+ *
+ * - 유저마다 이벤트를 쏘지 않고 배치당 1회 발행한다. (캐시 무효화/토큰 처리도 배치 단위로)
+ * - reason: 변경 사유 (ex. ADVISOR_APPROVED, ADVISOR_REJECTED)
+ */
+public record UserBulkChangedEvent(
+        List<UUID> userIds,
+        String reason
+) {
+}
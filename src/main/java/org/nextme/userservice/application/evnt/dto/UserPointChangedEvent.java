@@ -0,0 +1,15 @@
+package org.nextme.userservice.application.evnt.dto;
+
+import java.util.UUID;
+
+/**
+ * 유저의 포인트 잔액이 변경되었을 때 발행되는 애플리케이션 내부 이벤트
+ *
+ * - point: 변경 "이후"의 누적 포인트 (증감량이 아님)
+ * - 트랜잭션 커밋 이후에만 리스너가 처리한다.
+ */
+public record UserPointChangedEvent(
+        UUID userId,
+        long point
+) {
+}
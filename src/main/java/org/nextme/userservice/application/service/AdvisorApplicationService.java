@@ -2,29 +2,55 @@ package org.nextme.userservice.application.service;
 
 import lombok.RequiredArgsConstructor;
 import org.nextme.infrastructure.exception.ApplicationException;
-import org.nextme.infrastructure.exception.ErrorCode;
+import org.nextme.userservice.application.dto.AdvisorBatchResponse;
 import org.nextme.userservice.application.dto.AdvisorCandidateResponse;
+import org.nextme.userservice.application.dto.CursorPageResponse;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.application.evnt.dto.UserBulkChangedEvent;
 import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.AuditAction;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
 import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.repository.PendingAdvisorRow;
+import org.nextme.userservice.domain.repository.UserAdvisorState;
 import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.infrastructure.retry.RetryOnOptimisticLock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 어드바이저 신청/승급 관련 유스케이스 서비스
  *
  * - 일반 유저: 어드바이저 신청 (NOT_REQUESTED → PENDING)
- * - 관리자/매니저: 신청 목록 조회, 승인(승급)
+ * - 관리자/매니저: 신청 대기열 조회(커서 페이지), 승인(승급), 일괄 승인/거절
+ * - 단건 신청/승인은 상태 기반으로 멱등이므로 낙관적 락 충돌 시 자동 재시도 (@RetryOnOptimisticLock)
  */
 @Service
 @RequiredArgsConstructor
 public class AdvisorApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
 
     // ==========================
     //  1) 일반 유저: 어드바이저 신청
@@ -38,10 +64,11 @@ public class AdvisorApplicationService {
      * - APPROVED      → 상태 그대로, "신청이 승인되었습니다."
      * - REJECTED      → 상태 그대로, "신청이 거절되었습니다."
      */
+    @RetryOnOptimisticLock
     @Transactional
     public String applyForAdvisor(UserId userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> toAppException(ErrorCode.USER_NOT_FOUND));
 
         AdvisorStatus status = user.getAdvisorStatus();
 
@@ -61,18 +88,56 @@ public class AdvisorApplicationService {
     // ==========================
 
     /**
-     * 어드바이저 신청(PENDING) 상태인 유저 목록 조회
+     * 어드바이저 신청(PENDING) 대기열 조회 (신청 시각 오름차순, keyset 페이지네이션)
      *
      * - MASTER / MANAGER 용
+     * - cursor: 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * - OFFSET 을 쓰지 않으므로 신청이 수만 건 쌓여도 페이지마다 비용이 일정하다.
      */
     @Transactional(readOnly = true)
-    public List<AdvisorCandidateResponse> getPendingAdvisors() {
-        List<User> pendingUsers =
-                userRepository.findByAdvisorStatus(AdvisorStatus.PENDING);
+    public CursorPageResponse<AdvisorCandidateResponse> getPendingAdvisors(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PendingAdvisorRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userRepository.findPendingAdvisors(limit);
+        } else {
+            PendingCursor after = decodeCursor(cursor);
+            rows = userRepository.findPendingAdvisorsAfter(after.requestedAt(), after.userId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PendingAdvisorRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        return CursorPageResponse.of(
+                page.stream().map(AdvisorCandidateResponse::from).toList(),
+                nextCursor
+        );
+    }
 
-        return pendingUsers.stream()
-                .map(AdvisorCandidateResponse::from)
-                .toList();
+    /** 커서 = Base64URL("신청시각|userId") */
+    private String encodeCursor(PendingAdvisorRow last) {
+        String raw = last.requestedAt() + CURSOR_DELIMITER + last.userId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PendingCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(CURSOR_DELIMITER);
+            return new PendingCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    UUID.fromString(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw toAppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private record PendingCursor(LocalDateTime requestedAt, UUID userId) {
     }
 
     // ==========================
@@ -91,10 +156,11 @@ public class AdvisorApplicationService {
      *
      * @return 처리 결과 메시지
      */
+    @RetryOnOptimisticLock
     @Transactional
     public String approveAdvisor(UserId targetUserId) {
         User user = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> toAppException(ErrorCode.USER_NOT_FOUND));
 
         AdvisorStatus current = user.getAdvisorStatus();
 
@@ -104,9 +170,99 @@ public class AdvisorApplicationService {
         }
 
         // 승인 처리
+        UserRole previousRole = user.getRole();
         user.changeAdvisorStatus(AdvisorStatus.APPROVED);
         user.changeRole(UserRole.ADVISOR);
+        auditLogWriter.record(AuditAction.ADVISOR_APPROVED, targetUserId.getId(),
+                "role: " + previousRole + " -> " + UserRole.ADVISOR);
 
         return "해당 유저가 어드바이저로 승급되었습니다.";
     }
+
+    // ==========================
+    //  4) 관리자/매니저: 일괄 승인 / 거절
+    // ==========================
+
+    /**
+     * 여러 유저를 한 번에 어드바이저로 승인(승급)
+     *
+     * - PENDING 인 유저만 APPROVED + role ADVISOR 로 변경 (UPDATE 1회)
+     * - 나머지는 NOT_PENDING / NOT_FOUND 로 결과만 내려준다.
+     */
+    @Transactional
+    public AdvisorBatchResponse approveAdvisors(List<UUID> userIds) {
+        List<UUID> targets = distinct(userIds);
+        Set<UUID> approved = new HashSet<>(userRepository.approvePendingAdvisors(targets));
+        return completeBatch(targets, approved, AdvisorStatus.APPROVED, AuditAction.ADVISOR_APPROVED);
+    }
+
+    /**
+     * 여러 유저의 어드바이저 신청을 한 번에 거절
+     *
+     * - PENDING 인 유저만 REJECTED 로 변경 (UPDATE 1회, role 은 그대로)
+     */
+    @Transactional
+    public AdvisorBatchResponse rejectAdvisors(List<UUID> userIds) {
+        List<UUID> targets = distinct(userIds);
+        Set<UUID> rejected = new HashSet<>(userRepository.rejectPendingAdvisors(targets));
+        return completeBatch(targets, rejected, AdvisorStatus.REJECTED, AuditAction.ADVISOR_REJECTED);
+    }
+
+    /**
+     * 유저별 결과 판정 + 배치당 1회 이벤트 발행
+     * - 처리되지 않은 유저만 현재 상태를 조회한다.
+     * - 감사 로그는 처리된 유저마다 1건씩 남긴다. (이벤트 reason 은 감사 로그 action 과 같은 이름)
+     */
+    private AdvisorBatchResponse completeBatch(
+            List<UUID> targets,
+            Set<UUID> applied,
+            AdvisorStatus appliedStatus,
+            AuditAction action
+    ) {
+        List<UUID> skipped = targets.stream().filter(id -> !applied.contains(id)).toList();
+
+        Map<UUID, AdvisorStatus> currentStatus = new HashMap<>();
+        if (!skipped.isEmpty()) {
+            for (UserAdvisorState state : userRepository.findAdvisorStates(skipped)) {
+                currentStatus.put(state.userId(), state.advisorStatus());
+            }
+        }
+
+        List<AdvisorBatchResponse.Result> results = new ArrayList<>(targets.size());
+        for (UUID userId : targets) {
+            if (applied.contains(userId)) {
+                results.add(new AdvisorBatchResponse.Result(
+                        userId, AdvisorBatchResponse.Outcome.APPLIED, appliedStatus.name()));
+            } else if (currentStatus.containsKey(userId)) {
+                results.add(new AdvisorBatchResponse.Result(
+                        userId, AdvisorBatchResponse.Outcome.NOT_PENDING, currentStatus.get(userId).name()));
+            } else {
+                results.add(new AdvisorBatchResponse.Result(
+                        userId, AdvisorBatchResponse.Outcome.NOT_FOUND, null));
+            }
+        }
+
+        if (!applied.isEmpty()) {
+            for (UUID userId : applied) {
+                auditLogWriter.record(action, userId, "advisorStatus: PENDING -> " + appliedStatus);
+            }
+            eventPublisher.publishEvent(new UserBulkChangedEvent(List.copyOf(applied), action.name()));
+        }
+        return new AdvisorBatchResponse(targets.size(), applied.size(), results);
+    }
+
+    private List<UUID> distinct(List<UUID> userIds) {
+        return new ArrayList<>(new LinkedHashSet<>(userIds));
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
 }
@@ -0,0 +1,150 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.domain.repository.AdvisorCatalogRow;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 어드바이저 카탈로그 (디렉터리 조회용 메모리 스냅샷 보관소)
+ *
+ * - 레플리카마다 자기 메모리에 스냅샷을 가지므로 리더 락 없이 모든 레플리카에서 갱신한다.
+ * - 갱신 주기마다 유저/프로필 updatedAt 이 watermark 이후인 유저만 읽어 기존 스냅샷에 병합한다.
+ *   (커밋 지연/시계 차이를 고려해 overlap 만큼 겹쳐서 다시 읽는다. 같은 변경을 다시 반영해도 결과는 같다.)
+ * - 변경분이 너무 많거나, 하드 삭제처럼 updatedAt 으로 잡히지 않는 변경을 위해 주기적으로 전체 재적재한다.
+ * - 새 스냅샷은 AtomicReference 로 한 번에 교체되므로 조회 중인 요청은 항상 완성된 스냅샷만 본다.
+ *
+ * 메트릭
+ * - advisor.catalog.size        : 스냅샷에 담긴 어드바이저 수
+ * - advisor.catalog.age.seconds : 마지막 갱신 이후 경과 시간
+ * - advisor.catalog.refresh     : 갱신(증분/전체) 소요 시간
+ */
+@Slf4j
+@Component
+public class AdvisorCatalog {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final UserRepository userRepository;
+    private final AtomicReference<AdvisorCatalogSnapshot> current = new AtomicReference<>();
+    private final Timer refreshTimer;
+
+    @Value("${advisor.catalog.enabled:true}")
+    private boolean enabled;
+
+    @Value("${advisor.catalog.load-chunk-size:2000}")
+    private int loadChunkSize;
+
+    /** 증분 갱신 1회 최대 변경 건수 (초과하면 전체 재적재) */
+    @Value("${advisor.catalog.max-delta-size:5000}")
+    private int maxDeltaSize;
+
+    @Value("${advisor.catalog.overlap-seconds:10}")
+    private long overlapSeconds;
+
+    public AdvisorCatalog(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.refreshTimer = meterRegistry.timer("advisor.catalog.refresh");
+        meterRegistry.gauge("advisor.catalog.size", current,
+                ref -> ref.get() == null ? 0 : ref.get().size());
+        meterRegistry.gauge("advisor.catalog.age.seconds", current,
+                ref -> ref.get() == null ? -1 : (System.currentTimeMillis() - ref.get().createdAtMillis()) / 1000.0);
+    }
+
+    /** 조회용 스냅샷 (아직 적재 전이거나 비활성화면 empty → DB 조회로 대체) */
+    public Optional<AdvisorCatalogSnapshot> snapshot() {
+        return enabled ? Optional.ofNullable(current.get()) : Optional.empty();
+    }
+
+    /** 증분 갱신 (최초 1회는 전체 적재) */
+    @Scheduled(
+            initialDelayString = "${advisor.catalog.initial-delay-ms:0}",
+            fixedDelayString = "${advisor.catalog.refresh-fixed-delay-ms:5000}"
+    )
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refreshTimer.record(() -> {
+                AdvisorCatalogSnapshot snapshot = current.get();
+                if (snapshot == null) {
+                    reloadAll();
+                } else {
+                    refreshDelta(snapshot);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 기존 스냅샷을 그대로 사용 (age 메트릭으로 감지)
+            log.warn("[advisorCatalog] refresh failed. keep current snapshot.", e);
+        }
+    }
+
+    /** 주기적 전체 재적재 (하드 삭제 등 증분으로 잡히지 않는 변경 보정) */
+    @Scheduled(cron = "${advisor.catalog.full-reload-cron:0 0 * * * *}")
+    public void scheduledReload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refreshTimer.record(this::reloadAll);
+        } catch (RuntimeException e) {
+            log.warn("[advisorCatalog] full reload failed. keep current snapshot.", e);
+        }
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    private void refreshDelta(AdvisorCatalogSnapshot snapshot) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = snapshot.watermark().minusSeconds(overlapSeconds);
+        PageRequest limit = PageRequest.ofSize(maxDeltaSize + 1);
+
+        // p_user 변경분 + 프로필(p_user_profile) 변경분. 둘 다 "현재 값"이므로 합쳐서 반영하면 된다.
+        List<AdvisorCatalogRow> changes = new ArrayList<>(
+                userRepository.findAdvisorCatalogRowsChangedSince(since, limit));
+        changes.addAll(userRepository.findAdvisorCatalogRowsWithProfileChangedSince(since, limit));
+
+        if (changes.size() > maxDeltaSize) {
+            log.info("[advisorCatalog] too many changes since {}. full reload.", snapshot.watermark());
+            reloadAll();
+            return;
+        }
+
+        // 변경이 없으면 배열은 그대로 두고 watermark 만 전진
+        current.set(snapshot.apply(changes, now));
+    }
+
+    private void reloadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<AdvisorCatalogRow> rows = new ArrayList<>();
+
+        UUID after = MIN_UUID;
+        List<AdvisorCatalogRow> chunk;
+        do {
+            chunk = userRepository.findAdvisorCatalogRowsAfter(after, PageRequest.ofSize(loadChunkSize));
+            rows.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                after = chunk.get(chunk.size() - 1).userId();
+            }
+        } while (chunk.size() == loadChunkSize);
+
+        // 적재 도중 바뀐 행은 다음 증분 갱신(overlap 포함)에서 다시 반영된다.
+        current.set(AdvisorCatalogSnapshot.of(rows, startedAt));
+        log.info("[advisorCatalog] full reload done. size={}", rows.size());
+    }
+}
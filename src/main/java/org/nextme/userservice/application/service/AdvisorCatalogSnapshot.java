@@ -0,0 +1,277 @@
+package org.nextme.userservice.application.service;
+
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.AdvisorCatalogRow;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryCondition;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 어드바이저 카탈로그 메모리 스냅샷 (불변)
+ *
+ * - 디렉터리 노출 대상 어드바이저를 "경력 DESC, userId ASC" 순서로 열(column) 배열에 담는다.
+ *   (행마다 객체를 만들지 않고 long[] / int[] / String[] 로만 보관)
+ * - userId 정렬은 PostgreSQL uuid 정렬(부호 없는 바이트 비교)과 같게 맞춰
+ *   DB 검색과 같은 커서를 그대로 쓸 수 있다.
+ * - 카테고리 문자열은 intern 해서 같은 인스턴스를 공유하고, 카테고리별 위치 인덱스를 둔다.
+ * - 갱신 시에는 기존 스냅샷 + 변경분을 정렬 병합(merge)해 새 스냅샷을 만든다. (기존 스냅샷은 수정하지 않음)
+ */
+public final class AdvisorCatalogSnapshot {
+
+    private static final int[] EMPTY_POSITIONS = new int[0];
+
+    private static final Comparator<AdvisorCatalogRow> ORDER =
+            Comparator.comparingInt((AdvisorCatalogRow row) -> row.careerYears()).reversed()
+                    .thenComparing(row -> row.userId().getMostSignificantBits(), Long::compareUnsigned)
+                    .thenComparing(row -> row.userId().getLeastSignificantBits(), Long::compareUnsigned);
+
+    private final long[] idMsb;
+    private final long[] idLsb;
+    private final int[] careerYears;
+    private final String[] names;
+    private final String[] categories;
+    private final String[] intros;
+
+    /** 카테고리 → 스냅샷 내 위치(오름차순) */
+    private final Map<String, int[]> categoryPositions;
+
+    /** 증분 갱신 기준 시각 (이 시각 이후 변경분만 다시 읽는다) */
+    private final LocalDateTime watermark;
+    private final long createdAtMillis;
+
+    private AdvisorCatalogSnapshot(List<AdvisorCatalogRow> sortedRows, LocalDateTime watermark) {
+        int size = sortedRows.size();
+        this.idMsb = new long[size];
+        this.idLsb = new long[size];
+        this.careerYears = new int[size];
+        this.names = new String[size];
+        this.categories = new String[size];
+        this.intros = new String[size];
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            AdvisorCatalogRow row = sortedRows.get(i);
+            idMsb[i] = row.userId().getMostSignificantBits();
+            idLsb[i] = row.userId().getLeastSignificantBits();
+            careerYears[i] = row.careerYears();
+            names[i] = row.name();
+            intros[i] = row.intro();
+            if (row.mainCategory() != null) {
+                // 카테고리는 종류가 적으므로 intern 해서 행마다 같은 인스턴스를 공유
+                String category = row.mainCategory().intern();
+                categories[i] = category;
+                positions.computeIfAbsent(category, c -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> index = new HashMap<>(positions.size() * 2);
+        positions.forEach((category, list) ->
+                index.put(category, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.categoryPositions = Map.copyOf(index);
+
+        this.watermark = watermark;
+        this.createdAtMillis = System.currentTimeMillis();
+    }
+
+    /** 배열을 공유하고 watermark 만 바꾼 스냅샷 (배열은 생성 후 수정하지 않으므로 공유해도 안전) */
+    private AdvisorCatalogSnapshot(AdvisorCatalogSnapshot source, LocalDateTime watermark) {
+        this.idMsb = source.idMsb;
+        this.idLsb = source.idLsb;
+        this.careerYears = source.careerYears;
+        this.names = source.names;
+        this.categories = source.categories;
+        this.intros = source.intros;
+        this.categoryPositions = source.categoryPositions;
+        this.watermark = watermark;
+        this.createdAtMillis = System.currentTimeMillis();
+    }
+
+    /** 전체 적재 결과로 스냅샷 생성 */
+    public static AdvisorCatalogSnapshot of(Collection<AdvisorCatalogRow> rows, LocalDateTime watermark) {
+        List<AdvisorCatalogRow> listed = new ArrayList<>(rows.size());
+        for (AdvisorCatalogRow row : rows) {
+            if (row.isListed()) {
+                listed.add(row);
+            }
+        }
+        listed.sort(ORDER);
+        return new AdvisorCatalogSnapshot(listed, watermark);
+    }
+
+    /**
+     * 변경분을 반영한 새 스냅샷 생성
+     * - 변경된 유저는 기존 위치에서 빼고, 여전히 노출 대상이면 새 값으로 다시 넣는다.
+     * - 기존 배열은 이미 정렬되어 있으므로 O(n + k log k) 병합
+     */
+    public AdvisorCatalogSnapshot apply(List<AdvisorCatalogRow> changes, LocalDateTime newWatermark) {
+        if (changes.isEmpty()) {
+            return new AdvisorCatalogSnapshot(this, newWatermark);
+        }
+        Map<UUID, AdvisorCatalogRow> latest = new HashMap<>();
+        for (AdvisorCatalogRow row : changes) {
+            latest.put(row.userId(), row);   // 같은 유저의 행은 모두 조회 시점의 현재 값
+        }
+        Set<UUID> changedIds = latest.keySet();
+
+        List<AdvisorCatalogRow> inserted = new ArrayList<>();
+        for (AdvisorCatalogRow row : latest.values()) {
+            if (row.isListed()) {
+                inserted.add(row);
+            }
+        }
+        inserted.sort(ORDER);
+
+        List<AdvisorCatalogRow> merged = new ArrayList<>(size() + inserted.size());
+        int next = 0;
+        for (int i = 0; i < size(); i++) {
+            UUID userId = new UUID(idMsb[i], idLsb[i]);
+            if (changedIds.contains(userId)) {
+                continue;
+            }
+            AdvisorCatalogRow existing = rowAt(i, userId);
+            while (next < inserted.size() && ORDER.compare(inserted.get(next), existing) < 0) {
+                merged.add(inserted.get(next++));
+            }
+            merged.add(existing);
+        }
+        while (next < inserted.size()) {
+            merged.add(inserted.get(next++));
+        }
+        return new AdvisorCatalogSnapshot(merged, newWatermark);
+    }
+
+    // ==========================
+    //  조회
+    // ==========================
+
+    /**
+     * 디렉터리 검색 (AdvisorDirectoryRepository.search 와 같은 의미)
+     *
+     * @param afterCareerYears 이전 페이지 마지막 행의 경력 연차 (첫 페이지면 null)
+     * @param afterUserId      이전 페이지 마지막 행의 userId (첫 페이지면 null)
+     */
+    public List<AdvisorDirectoryEntry> search(
+            AdvisorDirectoryCondition condition,
+            Integer afterCareerYears,
+            UUID afterUserId,
+            int limit
+    ) {
+        int start = (afterCareerYears != null && afterUserId != null)
+                ? firstPositionAfter(afterCareerYears, afterUserId)
+                : 0;
+
+        List<AdvisorDirectoryEntry> result = new ArrayList<>(Math.min(limit, 64));
+        if (condition.category() != null) {
+            int[] positions = categoryPositions.getOrDefault(condition.category(), EMPTY_POSITIONS);
+            int from = Arrays.binarySearch(positions, start);
+            for (int p = from >= 0 ? from : -from - 1; p < positions.length && result.size() < limit; p++) {
+                int i = positions[p];
+                if (careerYears[i] < condition.minCareerYears()) {
+                    break;   // 경력 내림차순이므로 이후는 모두 미달
+                }
+                if (matchesKeyword(i, condition.keyword())) {
+                    result.add(entryAt(i));
+                }
+            }
+        } else {
+            for (int i = start; i < size() && result.size() < limit; i++) {
+                if (careerYears[i] < condition.minCareerYears()) {
+                    break;
+                }
+                if (matchesKeyword(i, condition.keyword())) {
+                    result.add(entryAt(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return idMsb.length;
+    }
+
+    public LocalDateTime watermark() {
+        return watermark;
+    }
+
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    /** (경력 DESC, userId ASC) 기준으로 커서 바로 다음 위치 (이진 탐색) */
+    private int firstPositionAfter(int afterCareer, UUID afterUserId) {
+        long msb = afterUserId.getMostSignificantBits();
+        long lsb = afterUserId.getLeastSignificantBits();
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTo(mid, afterCareer, msb, lsb) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareTo(int i, int career, long msb, long lsb) {
+        if (careerYears[i] != career) {
+            return careerYears[i] > career ? -1 : 1;
+        }
+        int cmp = Long.compareUnsigned(idMsb[i], msb);
+        return cmp != 0 ? cmp : Long.compareUnsigned(idLsb[i], lsb);
+    }
+
+    /** 대소문자 무시 부분 일치 (DB 의 ILIKE '%keyword%' 와 같은 의미, 문자열 복사 없음) */
+    private boolean matchesKeyword(int i, String keyword) {
+        if (keyword == null) {
+            return true;
+        }
+        String intro = intros[i];
+        if (intro == null) {
+            return false;
+        }
+        int last = intro.length() - keyword.length();
+        for (int from = 0; from <= last; from++) {
+            if (intro.regionMatches(true, from, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AdvisorDirectoryEntry entryAt(int i) {
+        return new AdvisorDirectoryEntry(new UUID(idMsb[i], idLsb[i]), names[i], categories[i], intros[i], careerYears[i]);
+    }
+
+    /** 병합용: 스냅샷 행을 노출 대상 행으로 복원 */
+    private AdvisorCatalogRow rowAt(int i, UUID userId) {
+        return new AdvisorCatalogRow(
+                userId,
+                names[i],
+                UserRole.ADVISOR,
+                UserStatus.ACTIVE,
+                Boolean.TRUE,
+                categories[i],
+                intros[i],
+                careerYears[i],
+                null
+        );
+    }
+}
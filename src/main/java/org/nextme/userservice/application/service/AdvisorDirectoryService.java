@@ -0,0 +1,131 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.dto.AdvisorDirectoryResponse;
+import org.nextme.userservice.application.dto.CursorPageResponse;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryCondition;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryEntry;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryRepository;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 어드바이저 디렉터리(공개 프로필) 검색 서비스
+ *
+ * - 상담 프론트에서 카테고리 / 최소 경력 / 소개 키워드로 어드바이저를 찾는다.
+ * - 경력 연차 내림차순 keyset 페이지네이션 (OFFSET 없음)
+ * - 평소에는 AdvisorCatalog 메모리 스냅샷에서 조회하고, 스냅샷이 없을 때만 DB 를 조회한다.
+ * - fields 파라미터로 응답 필드를 고를 수 있다. (스냅샷 조회가 기본이므로 JSON 만 줄인다)
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvisorDirectoryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    /** trigram 인덱스를 탈 수 있는 최소 키워드 길이 */
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final String CURSOR_DELIMITER = "|";
+
+    private final AdvisorDirectoryRepository advisorDirectoryRepository;
+    private final AdvisorCatalog advisorCatalog;
+
+    // 트랜잭션을 열면 스냅샷 조회에도 커넥션을 잡으므로 붙이지 않는다. (DB 대체 조회는 단일 SELECT)
+    public CursorPageResponse<AdvisorDirectoryResponse> search(
+            String category,
+            Integer minCareerYears,
+            String keyword,
+            String fields,
+            String cursor,
+            int size
+    ) {
+        AdvisorDirectoryCondition condition = new AdvisorDirectoryCondition(
+                blankToNull(category),
+                minCareerYears == null ? 0 : Math.max(minCareerYears, 0),
+                normalizeKeyword(keyword)
+        );
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Set<AdvisorDirectoryResponse.Field> responseFields =
+                ResponseFields.parse(fields, AdvisorDirectoryResponse.Field.class, AdvisorDirectoryResponse.Field::jsonName);
+
+        Integer afterCareerYears = null;
+        UUID afterUserId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            afterCareerYears = Integer.valueOf(decoded[0]);
+            afterUserId = UUID.fromString(decoded[1]);
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        // 메모리 스냅샷이 적재되어 있으면 DB 를 조회하지 않는다. (적재 전/비활성화 시에만 DB)
+        Optional<AdvisorCatalogSnapshot> snapshot = advisorCatalog.snapshot();
+        List<AdvisorDirectoryEntry> rows = snapshot.isPresent()
+                ? snapshot.get().search(condition, afterCareerYears, afterUserId, pageSize + 1)
+                : advisorDirectoryRepository.search(condition, afterCareerYears, afterUserId, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AdvisorDirectoryEntry> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        return CursorPageResponse.of(
+                page.stream().map(entry -> AdvisorDirectoryResponse.from(entry, responseFields)).toList(),
+                nextCursor
+        );
+    }
+
+    // ==========================
+    //  내부 공통
+    // ==========================
+
+    private String normalizeKeyword(String keyword) {
+        String trimmed = blankToNull(keyword);
+        if (trimmed == null) {
+            return null;
+        }
+        if (trimmed.length() < MIN_KEYWORD_LENGTH) {
+            throw toAppException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+        return trimmed;
+    }
+
+    private String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+
+    /** 커서 = Base64URL("경력연차|userId") */
+    private String encodeCursor(AdvisorDirectoryEntry last) {
+        String raw = last.careerYears() + CURSOR_DELIMITER + last.userId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            // 형식 검증
+            Integer.parseInt(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw toAppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
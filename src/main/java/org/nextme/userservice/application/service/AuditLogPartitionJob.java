@@ -0,0 +1,58 @@
+package org.nextme.userservice.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.domain.repository.AuditLogRepository;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 감사 로그 월 파티션 관리 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - 이번 달부터 months-ahead 개월치 파티션을 미리 만든다. (DEFAULT 파티션이 없으므로 INSERT 전에 있어야 함)
+ * - 보존 기간(retention-months)이 지난 달의 파티션은 DROP 한다. (DELETE 대신 파티션 단위로 제거)
+ */
+@Slf4j
+@Component
+public class AuditLogPartitionJob {
+
+    private static final String JOB_NAME = "audit-log-partition";
+
+    private final AuditLogRepository auditLogRepository;
+    private final RedisJobLock jobLock;
+
+    @Value("${audit.partition-months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${audit.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${audit.partition-lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    public AuditLogPartitionJob(AuditLogRepository auditLogRepository, RedisJobLock jobLock) {
+        this.auditLogRepository = auditLogRepository;
+        this.jobLock = jobLock;
+    }
+
+    @Scheduled(cron = "${audit.partition-cron:0 10 3 * * *}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            LocalDate today = LocalDate.now();
+            auditLogRepository.ensurePartitions(today, monthsAhead);
+            int dropped = auditLogRepository.dropPartitionsBefore(today.minusMonths(retentionMonths));
+            log.info("[auditLog] partitions ensured. monthsAhead={}, dropped={}", monthsAhead, dropped);
+        }
+    }
+}
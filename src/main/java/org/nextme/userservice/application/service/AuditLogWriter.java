@@ -0,0 +1,285 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.common.security.UserPrincipal;
+import org.nextme.userservice.domain.AuditAction;
+import org.nextme.userservice.domain.repository.AuditEntry;
+import org.nextme.userservice.domain.repository.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 배치 기록
+ *
+ * - record() 는 고정 크기 큐(ring buffer)에 넣기만 한다. (요청 트랜잭션에 INSERT 를 더하지 않음)
+ *   - 트랜잭션 안에서 호출되면 커밋 후에 넣는다. (롤백된 작업은 기록하지 않음)
+ *   - actor 는 호출 스레드의 SecurityContext 에서 읽는다.
+ * - 전용 스레드 1개가 큐에서 최대 batch-size 건씩 꺼내 배치 INSERT
+ *   - 실패 시 write-attempts 번까지 재시도 후 버리고 dropped{reason=write_failed} 로 집계
+ * - 큐가 가득 찼을 때 (overflow-policy)
+ *   - DROP_NEWEST : 새 항목을 버림 (기본, 호출 스레드 지연 없음)
+ *   - DROP_OLDEST : 가장 오래된 항목을 버리고 새 항목을 넣음
+ *   - BLOCK       : block-timeout-ms 동안 자리가 나길 기다리고, 그래도 없으면 새 항목을 버림
+ * - 종료 시(SmartLifecycle.stop) 큐에 남은 항목을 모두 기록한 뒤 스레드를 끝낸다.
+ *   (phase 0: 웹 서버 graceful shutdown 이 끝난 뒤 멈추므로 마지막 요청의 기록까지 남는다)
+ *
+ * 메트릭
+ * - audit.enqueued / audit.written : 큐에 넣은 / DB 에 기록한 건수
+ * - audit.dropped{reason}          : overflow / write_failed / stopped
+ * - audit.queue.size               : 큐에 쌓인 건수
+ * - audit.write                    : 배치 INSERT 소요 시간
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    private static final int MAX_DETAIL_LENGTH = 1000;
+
+    private final AuditLogRepository auditLogRepository;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<AuditEntry> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter enqueued;
+    private final Counter written;
+    private final Timer writeTimer;
+
+    @Value("${audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${audit.poll-timeout-ms:1000}")
+    private long pollTimeoutMs;
+
+    @Value("${audit.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    @Value("${audit.write-attempts:3}")
+    private int writeAttempts;
+
+    @Value("${audit.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(
+            AuditLogRepository auditLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.overflow-policy:DROP_NEWEST}") String overflowPolicy
+    ) {
+        this.auditLogRepository = auditLogRepository;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+        this.enqueued = meterRegistry.counter("audit.enqueued");
+        this.written = meterRegistry.counter("audit.written");
+        this.writeTimer = meterRegistry.timer("audit.write");
+        meterRegistry.gaugeCollectionSize("audit.queue.size", List.of(), queue);
+    }
+
+    /**
+     * 감사 로그 1건 기록 요청 (비동기)
+     *
+     * @param targetUserId 작업 대상 유저
+     * @param detail       부가 정보 (null 가능, 1000자 초과분은 잘림)
+     */
+    public void record(AuditAction action, UUID targetUserId, String detail) {
+        AuditEntry entry = new AuditEntry(
+                UUID.randomUUID(),
+                LocalDateTime.now(),
+                action,
+                currentActorId(),
+                targetUserId,
+                truncate(detail)
+        );
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entry);
+            }
+        });
+    }
+
+    // ==========================
+    //  SmartLifecycle
+    // ==========================
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("[auditLog] shutdown timeout. {} entries not written.", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    private void enqueue(AuditEntry entry) {
+        if (!running) {
+            drop("stopped", entry);
+            return;
+        }
+        boolean accepted = switch (overflowPolicy) {
+            case DROP_NEWEST -> queue.offer(entry);
+            case DROP_OLDEST -> offerDroppingOldest(entry);
+            case BLOCK -> offerWaiting(entry);
+        };
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            drop("overflow", entry);
+        }
+    }
+
+    private boolean offerDroppingOldest(AuditEntry entry) {
+        while (!queue.offer(entry)) {
+            AuditEntry oldest = queue.poll();
+            if (oldest != null) {
+                drop("overflow", oldest);
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(AuditEntry entry) {
+        try {
+            return queue.offer(entry, blockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 큐가 비고 stop 이 요청될 때까지 배치로 꺼내 기록 */
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(pollTimeoutMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<AuditEntry> batch = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 인터럽트되면 남은 항목을 바로 기록하고 종료
+                Thread.currentThread().interrupt();
+                drainRemaining();
+                return;
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        for (int attempt = 1; attempt <= writeAttempts; attempt++) {
+            try {
+                writeTimer.record(() -> auditLogRepository.insertAll(batch));
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[auditLog] batch insert failed. size={}, attempt={}/{}",
+                        batch.size(), attempt, writeAttempts, e);
+                if (attempt < writeAttempts && !backoff(attempt)) {
+                    break;
+                }
+            }
+        }
+        meterRegistry.counter("audit.dropped", "reason", "write_failed").increment(batch.size());
+        log.error("[auditLog] dropped {} entries after {} attempts.", batch.size(), writeAttempts);
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(200L * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop(String reason, AuditEntry entry) {
+        meterRegistry.counter("audit.dropped", "reason", reason).increment();
+        log.warn("[auditLog] dropped ({}). action={}, target={}", reason, entry.action(), entry.targetUserId());
+    }
+
+    private UUID currentActorId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            try {
+                return UUID.fromString(principal.userId());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private String truncate(String detail) {
+        if (detail == null || detail.length() <= MAX_DETAIL_LENGTH) {
+            return detail;
+        }
+        return detail.substring(0, MAX_DETAIL_LENGTH);
+    }
+}
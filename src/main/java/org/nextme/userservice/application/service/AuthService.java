@@ -1,6 +1,7 @@
 package org.nextme.userservice.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.nextme.common.jwt.JwtTokenPair;
 import org.nextme.common.jwt.JwtTokenProvider;
 import org.nextme.infrastructure.exception.ApplicationException;
@@ -8,32 +9,48 @@ import org.nextme.infrastructure.exception.ErrorCode;
 import org.nextme.userservice.application.dto.LoginRequest;
 import org.nextme.userservice.application.dto.SignupRequest;
 import org.nextme.userservice.application.dto.TokenResponse;
+import org.nextme.userservice.application.dto.UserNameAvailabilityResponse;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
 import org.nextme.userservice.domain.UserRole;
 import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
+/**
+ * 로컬 회원가입 / 로그인
+ *
+ * - BCrypt 해시/검증(수십~수백 ms)은 트랜잭션 밖에서 수행한다.
+ *   (클래스 단위 @Transactional 이면 해시 계산 동안 커넥션을 잡고 있어 풀(5개)이 병목이 된다)
+ * - DB 접근은 리포지토리 호출 단위의 짧은 트랜잭션만 사용
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService {
+
+    /** SQLState: unique_violation */
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // Security 설정 필요
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserNameAvailabilityService userNameAvailabilityService;
+    private final LoginActivityRecorder loginActivityRecorder;
 
+    /**
+     * 로컬 회원가입
+     * - 중복 여부는 미리 조회하지 않고 user_name 유니크 제약으로 판단한다. (INSERT 1회, 동시 가입 경쟁에도 안전)
+     * - 가입 전 확인은 GET /v1/user/auth/username/availability 사용
+     */
     public void signup(SignupRequest request) {
-        // 중복 체크
-        if (userRepository.existsByUserName(request.userName())) {
-            throw new ApplicationException(ErrorCode.DUPLICATED_USERNAME);
-        }
-
         UserId userId = UserId.of(UUID.randomUUID());
+        // 커넥션을 잡지 않은 상태에서 해시 계산
         String encodedPassword = passwordEncoder.encode(request.password());
 
         User user = User.createLocalUser(
@@ -44,17 +61,54 @@ public class AuthService {
                 request.name(),
                 request.slackId()
         );
-        userRepository.save(user);
+        try {
+            userRepository.save(user);   // save 자체 트랜잭션 (INSERT 1건)
+        } catch (DataIntegrityViolationException e) {
+            // NOT NULL / 길이 초과 등 다른 제약 위반은 중복 아이디로 바꾸지 않고 그대로 던진다.
+            if (!isDuplicateUserName(e)) {
+                throw e;
+            }
+            throw new ApplicationException(ErrorCode.DUPLICATED_USERNAME);
+        }
+        userNameAvailabilityService.markTaken(request.userName());
+    }
+
+    /**
+     * user_name 유니크 제약 위반인지 판별
+     * - 제약 이름이 있으면 uk_user_user_name 일 때만 true (다른 제약 위반은 그대로 던짐)
+     *   (자동 생성된 이름으로 만들어진 DB 는 V18 마이그레이션이 이 이름으로 바꾼다)
+     * - 드라이버가 제약 이름을 주지 않은 경우에만 SQLState 23505(unique_violation) 로 판단한다.
+     */
+    private boolean isDuplicateUserName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                if (constraintName != null) {
+                    return constraintName.toLowerCase(Locale.ROOT).contains(User.USER_NAME_CONSTRAINT);
+                }
+                return UNIQUE_VIOLATION.equals(violation.getSQLState());
+            }
+            if (cause instanceof SQLException sqlException) {
+                return UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+            }
+        }
+        return false;
+    }
+
+    public UserNameAvailabilityResponse checkUserName(String userName) {
+        return userNameAvailabilityService.check(userName);
     }
 
-    @Transactional(readOnly = true)
     public TokenResponse login(LoginRequest request) {
+        // 조회 트랜잭션은 여기서 끝나고, 이후 비밀번호 검증/토큰 발급은 커넥션 없이 수행
         User user = userRepository.findByUserName(request.userName())
                 .orElseThrow(() -> new ApplicationException(ErrorCode.USER_NOT_FOUND));
 
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new ApplicationException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+        // 메모리 버퍼에만 기록 (DB 반영은 LoginActivityRecorder 가 주기적으로 모아서)
+        loginActivityRecorder.recordLogin(user.getId().getId());
 
         // 권한 리스트 생성
         List<String> roles = List.of(user.getRole().name());
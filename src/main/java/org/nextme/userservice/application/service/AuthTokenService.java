@@ -8,10 +8,12 @@ import org.nextme.common.jwt.TokenBlacklistService;
 import org.nextme.infrastructure.exception.ApplicationException;
 import org.nextme.infrastructure.exception.ErrorCode;
 import org.nextme.userservice.application.dto.TokenResponse;
+import org.nextme.userservice.domain.AuditAction;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -20,6 +22,7 @@ public class AuthTokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final AuditLogWriter auditLogWriter;
 
     // ==========================
     //  공통 에러 생성
@@ -159,6 +162,17 @@ public class AuthTokenService {
         long remainingMs = jwtTokenProvider.getRemainingValidityMillis(accessToken);
         log.info("[logout] blacklist accessToken. remainingMs={}", remainingMs);
         tokenBlacklistService.blacklist(accessToken, remainingMs);
+        recordLogout(accessToken);
+    }
+
+    /** 로그아웃 감사 로그 (토큰의 sub 가 UUID 가 아니면 남기지 않음) */
+    private void recordLogout(String accessToken) {
+        try {
+            UUID userId = UUID.fromString(jwtTokenProvider.getUserId(accessToken));
+            auditLogWriter.record(AuditAction.LOGOUT, userId, null);
+        } catch (IllegalArgumentException e) {
+            log.debug("[logout] skip audit log. cause={}", e.getMessage());
+        }
     }
 
     private void handleRefreshToken(String refreshTokenHeader) {
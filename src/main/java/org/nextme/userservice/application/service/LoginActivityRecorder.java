@@ -0,0 +1,124 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.domain.repository.LoginActivity;
+import org.nextme.userservice.domain.repository.LoginActivityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 기록 (마지막 로그인 시각 / 누적 로그인 횟수) 모아서 반영
+ *
+ * - 로그인 시에는 메모리 맵에 합치기만 한다. (DB 왕복 없음 → 로그인 지연 시간 그대로)
+ * - flush 주기마다 유저당 1행으로 합쳐진 기록을 JDBC batch UPDATE 로 반영
+ *   - 1회 반영 건수는 max-flush-size 로 제한하고, 남은 건 다음 주기에 반영 (flush 비용 상한)
+ *   - 반영 실패 시 꺼낸 기록을 다시 합쳐 두고 다음 주기에 재시도
+ * - 버퍼에 담는 유저 수도 max-buffered-users 로 제한 (초과분은 버리고 dropped 로 집계)
+ * - 인스턴스가 내려갈 때 남은 기록을 반영한다. (강제 종료 시 마지막 주기분은 유실될 수 있음)
+ *
+ * 메트릭
+ * - user.login_tracking.buffered : 반영 대기 중인 유저 수
+ * - user.login_tracking.flushed  : 반영한 유저 행 수
+ * - user.login_tracking.dropped  : 버퍼가 가득 차 버린 로그인 수
+ * - user.login_tracking.flush    : 1회 반영 소요 시간
+ */
+@Slf4j
+@Component
+public class LoginActivityRecorder {
+
+    private final LoginActivityRepository loginActivityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<UUID, LoginActivity> buffer = new ConcurrentHashMap<>();
+    private final Counter flushedRows;
+    private final Counter droppedLogins;
+    private final Timer flushTimer;
+
+    @Value("${user.login-tracking.max-buffered-users:200000}")
+    private int maxBufferedUsers;
+
+    @Value("${user.login-tracking.max-flush-size:5000}")
+    private int maxFlushSize;
+
+    public LoginActivityRecorder(
+            LoginActivityRepository loginActivityRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.loginActivityRepository = loginActivityRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedRows = meterRegistry.counter("user.login_tracking.flushed");
+        this.droppedLogins = meterRegistry.counter("user.login_tracking.dropped");
+        this.flushTimer = meterRegistry.timer("user.login_tracking.flush");
+        meterRegistry.gaugeMapSize("user.login_tracking.buffered", List.of(), buffer);
+    }
+
+    /** 로그인 성공 1회 기록 (메모리만 사용) */
+    public void recordLogin(UUID userId) {
+        LoginActivity login = new LoginActivity(userId, LocalDateTime.now(), 1);
+        if (buffer.size() >= maxBufferedUsers && !buffer.containsKey(userId)) {
+            droppedLogins.increment();
+            return;
+        }
+        buffer.merge(userId, login, LoginActivity::merge);
+    }
+
+    @Scheduled(
+            initialDelayString = "${user.login-tracking.flush-interval-ms:60000}",
+            fixedDelayString = "${user.login-tracking.flush-interval-ms:60000}"
+    )
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<LoginActivity> drained = drain(maxFlushSize);
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> loginActivityRepository.recordLogins(drained)));
+            flushedRows.increment(drained.size());
+        } catch (RuntimeException e) {
+            // 되돌려 두고 다음 주기에 재시도 (그 사이 들어온 로그인과 합쳐짐)
+            drained.forEach(activity -> buffer.merge(activity.userId(), activity, LoginActivity::merge));
+            log.warn("[loginTracking] flush failed. users={}, retry next interval.", drained.size(), e);
+        }
+    }
+
+    /** 종료 시 남은 기록 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rounds = 0;
+        while (!buffer.isEmpty() && rounds++ < 100) {
+            int before = buffer.size();
+            flush();
+            if (buffer.size() >= before) {
+                break;   // 반영 실패 → 더 시도하지 않음
+            }
+        }
+    }
+
+    /** 버퍼에서 최대 limit 명의 기록을 꺼낸다. (꺼낸 뒤 들어온 로그인은 새 항목으로 쌓임) */
+    private List<LoginActivity> drain(int limit) {
+        List<LoginActivity> drained = new ArrayList<>(Math.min(limit, buffer.size()));
+        Iterator<UUID> keys = buffer.keySet().iterator();
+        while (keys.hasNext() && drained.size() < limit) {
+            LoginActivity activity = buffer.remove(keys.next());
+            if (activity != null) {
+                drained.add(activity);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,151 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.application.evnt.dto.UserPointEarnedMessage;
+import org.nextme.userservice.domain.PointDailyRollup;
+import org.nextme.userservice.domain.PointLedgerEntry;
+import org.nextme.userservice.domain.repository.PointDailyRollupRepository;
+import org.nextme.userservice.domain.repository.PointLedgerRepository;
+import org.nextme.userservice.domain.repository.ProcessedMessageRepository;
+import org.nextme.userservice.domain.repository.UserPointSnapshot;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Kafka(user.point.earned) 포인트 적립 메시지 배치 반영 서비스
+ *
+ * 한 번의 poll 로 받은 메시지 묶음을 하나의 트랜잭션에서 처리한다.
+ * 0) 메시지 키(topic-partition-offset)를 처리 기록(p_processed_message)에 남기고, 이미 반영된 메시지는 건너뜀
+ *    (Kafka 는 at-least-once 이므로 커밋 직후 오프셋 커밋 전에 죽으면 같은 메시지가 다시 온다)
+ * 1) 유저별로 합산 → 유저당 UPDATE 1회 (p_user.point = point + 합계)
+ * 2) (유저, 일자, 프로모션)별로 합산 → 집계 행 upsert 1회
+ *    + 프로모션 적립분은 만료 원장(p_point_ledger) 행 1건 적재
+ * 3) 커밋 이후 변경된 포인트를 랭킹에 반영 (UserPointChangedEvent)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointEarnBatchService {
+
+    /** p_processed_message.consumer 값 */
+    private static final String CONSUMER = "point-earn";
+
+    private final UserRepository userRepository;
+    private final PointDailyRollupRepository rollupRepository;
+    private final PointLedgerRepository ledgerRepository;
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 프로모션 포인트 유효기간 (일) */
+    @Value("${point.expiration.validity-days:365}")
+    private int validityDays;
+
+    /**
+     * @param messages 메시지 키(topic-partition-offset) → 메시지 (같은 키는 한 번만 들어옴)
+     */
+    @Transactional
+    public void applyEarnings(Map<String, UserPointEarnedMessage> messages) {
+        // 0) 처리 기록 (이미 기록된 키 = 재전달된 메시지)
+        Set<String> fresh = processedMessageRepository.markProcessed(CONSUMER, messages.keySet());
+        if (fresh.size() < messages.size()) {
+            log.info("[pointEarn] redelivered messages skipped. count={}", messages.size() - fresh.size());
+        }
+
+        // userId 순서로 잠근다. (다른 배치 / 만료 잡과 같은 순서 → 교착 방지)
+        Map<UUID, Long> amountByUser = new TreeMap<>();
+        Map<RollupKey, RollupDelta> rollups = new LinkedHashMap<>();
+
+        for (Map.Entry<String, UserPointEarnedMessage> entry : messages.entrySet()) {
+            if (!fresh.contains(entry.getKey())) {
+                continue;
+            }
+            UserPointEarnedMessage message = entry.getValue();
+            if (message.getUserId() == null || message.getAmount() == null || message.getAmount() <= 0) {
+                log.warn("[pointEarn] invalid message skipped. message={}", message);
+                continue;
+            }
+            amountByUser.merge(message.getUserId(), message.getAmount(), Long::sum);
+
+            LocalDate day = message.getEarnedAt() != null
+                    ? message.getEarnedAt().toLocalDate()
+                    : LocalDate.now();
+            UUID promotionId = message.getPromotionId() != null
+                    ? message.getPromotionId()
+                    : PointDailyRollup.NO_PROMOTION;
+            rollups.computeIfAbsent(new RollupKey(message.getUserId(), day, promotionId), k -> new RollupDelta())
+                    .add(message.getAmount(), message.getPromotionName());
+        }
+
+        // 1) 유저별 포인트 반영 (존재하지 않는 유저는 집계에서도 제외)
+        Set<UUID> credited = new HashSet<>();
+        amountByUser.forEach((userId, amount) -> {
+            if (userRepository.addPoint(userId, amount) == 1) {
+                credited.add(userId);
+            } else {
+                log.warn("[pointEarn] user not found. userId={}, amount={}", userId, amount);
+            }
+        });
+        if (credited.isEmpty()) {
+            return;
+        }
+
+        // 2) 일별/프로모션별 집계 upsert + 프로모션 적립분 만료 원장 적재
+        rollups.forEach((key, delta) -> {
+            if (!credited.contains(key.userId())) {
+                return;
+            }
+            rollupRepository.accumulate(
+                    key.userId(),
+                    key.day(),
+                    key.promotionId(),
+                    delta.promotionName,
+                    delta.amount,
+                    delta.count
+            );
+            if (!PointDailyRollup.NO_PROMOTION.equals(key.promotionId())) {
+                ledgerRepository.save(PointLedgerEntry.earned(
+                        key.userId(),
+                        key.promotionId(),
+                        delta.amount,
+                        key.day().atStartOfDay(),
+                        key.day().plusDays(validityDays).atStartOfDay()
+                ));
+            }
+        });
+
+        // 3) 커밋 이후 랭킹 반영
+        for (UserPointSnapshot snapshot : userRepository.findPointSnapshots(credited)) {
+            eventPublisher.publishEvent(new UserPointChangedEvent(snapshot.userId(), snapshot.point()));
+        }
+    }
+
+    private record RollupKey(UUID userId, LocalDate day, UUID promotionId) {
+    }
+
+    private static final class RollupDelta {
+        private long amount;
+        private long count;
+        private String promotionName;
+
+        private void add(long amount, String promotionName) {
+            this.amount += amount;
+            this.count++;
+            if (promotionName != null) {
+                this.promotionName = promotionName;
+            }
+        }
+    }
+}
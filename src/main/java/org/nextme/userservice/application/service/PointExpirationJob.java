@@ -0,0 +1,121 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 만료 배치 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - 작은 청크(chunk-size) 단위로 처리하고 청크 사이에 쉬어(pause-between-chunks-ms)
+ *   다른 API 의 p_user 갱신과 경합하지 않도록 한다.
+ * - 1회 실행당 최대 청크 수(max-chunks-per-run)를 넘으면 다음 주기로 넘긴다.
+ *
+ * 메트릭
+ * - point.expiration.entries / point.expiration.points : 만료 처리된 원장 행 수 / 실제 차감된 포인트 합계
+ * - point.expiration.chunk : 청크 처리 시간
+ * - point.expiration.last.completed : 마지막으로 만료 대상을 모두 처리한 시각 (epoch seconds)
+ */
+@Slf4j
+@Component
+public class PointExpirationJob {
+
+    private static final String JOB_NAME = "point-expiration";
+
+    private final PointExpirationService expirationService;
+    private final RedisJobLock jobLock;
+
+    private final Counter expiredEntries;
+    private final Counter expiredPoints;
+    private final Timer chunkTimer;
+    private final AtomicLong lastCompletedEpochSeconds = new AtomicLong();
+
+    @Value("${point.expiration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${point.expiration.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${point.expiration.pause-between-chunks-ms:100}")
+    private long pauseBetweenChunksMs;
+
+    @Value("${point.expiration.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    public PointExpirationJob(
+            PointExpirationService expirationService,
+            RedisJobLock jobLock,
+            MeterRegistry meterRegistry
+    ) {
+        this.expirationService = expirationService;
+        this.jobLock = jobLock;
+        this.expiredEntries = meterRegistry.counter("point.expiration.entries");
+        this.expiredPoints = meterRegistry.counter("point.expiration.points");
+        this.chunkTimer = meterRegistry.timer("point.expiration.chunk");
+        meterRegistry.gauge("point.expiration.last.completed", lastCompletedEpochSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${point.expiration.fixed-delay-ms:600000}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            log.debug("[pointExpiration] another replica holds the lock. skip.");
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            LocalDateTime now = LocalDateTime.now();
+            int chunks = 0;
+            long totalEntries = 0;
+
+            while (chunks < maxChunksPerRun) {
+                PointExpirationService.ChunkResult result =
+                        chunkTimer.record(() -> expirationService.expireChunk(now, chunkSize));
+                chunks++;
+
+                expiredEntries.increment(result.entries());
+                expiredPoints.increment(result.points());
+                totalEntries += result.entries();
+
+                if (result.entries() < chunkSize) {
+                    lastCompletedEpochSeconds.set(System.currentTimeMillis() / 1000L);
+                    break;
+                }
+                if (!lease.renew()) {
+                    log.warn("[pointExpiration] lock lost. stop after {} chunks.", chunks);
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+
+            log.info("[pointExpiration] done. chunks={}, entries={}", chunks, totalEntries);
+        }
+    }
+
+    /** 청크 사이 스로틀링 (인터럽트되면 false) */
+    private boolean pause() {
+        if (pauseBetweenChunksMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
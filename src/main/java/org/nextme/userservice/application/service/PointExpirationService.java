@@ -0,0 +1,102 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.domain.repository.ExpiringPointEntry;
+import org.nextme.userservice.domain.repository.PointLedgerRepository;
+import org.nextme.userservice.domain.repository.UserPointSnapshot;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 포인트 만료 청크 처리 서비스
+ *
+ * - 청크 하나 = 트랜잭션 하나 (행 잠금은 청크 크기만큼, 짧게만 유지)
+ * - 원장 행 만료 + 유저별 포인트 차감을 같은 트랜잭션에서 원자적으로 반영
+ * - 유저 잔액보다 많이 차감하지 않고, 실제 차감액을 원장(expired_amount)에 남긴다.
+ * - 스케줄링/락/스로틀링은 PointExpirationJob 에서 담당
+ */
+@Service
+@RequiredArgsConstructor
+public class PointExpirationService {
+
+    private final PointLedgerRepository ledgerRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 만료 대상 원장 행을 최대 chunkSize 건 처리
+     * @return 처리 결과 (처리 건수 0 이면 더 이상 만료 대상 없음)
+     */
+    @Transactional
+    public ChunkResult expireChunk(LocalDateTime now, int chunkSize) {
+        List<ExpiringPointEntry> entries = ledgerRepository.lockExpiringEntries(now, chunkSize);
+        if (entries.isEmpty()) {
+            return new ChunkResult(0, 0L);
+        }
+
+        // 유저별로 묶기 (유저 안에서는 조회 순서 = 만료 시각 순서 유지)
+        // - 유저 행은 userId 순서로 잠근다. (포인트 적립 배치와 같은 순서 → 교착 방지)
+        Map<UUID, List<ExpiringPointEntry>> entriesByUser = new TreeMap<>();
+        for (ExpiringPointEntry entry : entries) {
+            entriesByUser.computeIfAbsent(entry.getUserId(), k -> new ArrayList<>()).add(entry);
+        }
+
+        ledgerRepository.markExpired(entries.stream().map(ExpiringPointEntry::getId).toList(), now);
+
+        long expiredPoints = 0L;
+        Set<UUID> deductedUsers = new LinkedHashSet<>();
+        for (Map.Entry<UUID, List<ExpiringPointEntry>> group : entriesByUser.entrySet()) {
+            long deducted = deduct(group.getKey(), group.getValue());
+            if (deducted > 0) {
+                deductedUsers.add(group.getKey());
+                expiredPoints += deducted;
+            }
+        }
+
+        // 커밋 이후 랭킹 반영
+        for (UserPointSnapshot snapshot : userRepository.findPointSnapshots(deductedUsers)) {
+            eventPublisher.publishEvent(new UserPointChangedEvent(snapshot.userId(), snapshot.point()));
+        }
+
+        return new ChunkResult(entries.size(), expiredPoints);
+    }
+
+    /**
+     * 유저 포인트에서 만료분 차감 (잔액까지만)
+     * - 잔액이 모자라면 만료 시각이 이른 행부터 차감된 것으로 보고, 덜 차감된 행의 expired_amount 를 보정한다.
+     * @return 실제 차감액
+     */
+    private long deduct(UUID userId, List<ExpiringPointEntry> entries) {
+        long expiring = entries.stream().mapToLong(ExpiringPointEntry::getRemaining).sum();
+        long balance = userRepository.lockPoint(userId).orElse(0L);
+        long deducted = Math.min(expiring, balance);
+        if (deducted > 0) {
+            userRepository.deductPointIfEnough(userId, deducted);
+        }
+
+        long left = deducted;
+        for (ExpiringPointEntry entry : entries) {
+            long taken = Math.min(entry.getRemaining(), left);
+            left -= taken;
+            if (taken < entry.getRemaining()) {
+                ledgerRepository.reduceExpiredAmount(entry.getId(), entry.getRemaining() - taken);
+            }
+        }
+        return deducted;
+    }
+
+    public record ChunkResult(int entries, long points) {
+    }
+}
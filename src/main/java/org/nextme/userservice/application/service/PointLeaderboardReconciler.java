@@ -0,0 +1,107 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.domain.repository.UserPointSnapshot;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.nextme.userservice.infrastructure.ranking.RedisPointLeaderboard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 포인트 랭킹 정합성 보정 잡
+ *
+ * - 이벤트 유실(Redis 장애, 커밋 직후 종료 등)로 어긋난 랭킹을 DB 기준으로 다시 만든다.
+ * - p_user 를 userId 기준 keyset 으로 청크 단위 조회 → 임시 키에 적재 → RENAME 으로 교체
+ * - 청크마다 짧은 읽기 트랜잭션만 사용하므로 긴 스캔 트랜잭션을 잡지 않는다.
+ * - Redis 리더 락으로 레플리카 한 곳에서만 실행한다. (락을 잃으면 재구성을 중단하고 교체하지 않음)
+ * - 기동 시 라이브 키가 없으면(첫 배포, 키 이름 변경 등) 다음 스케줄을 기다리지 않고 바로 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLeaderboardReconciler {
+
+    private static final String JOB_NAME = "point-leaderboard-reconcile";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final UserRepository userRepository;
+    private final RedisPointLeaderboard leaderboard;
+    private final RedisJobLock jobLock;
+
+    @Value("${point.leaderboard.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${point.leaderboard.reconcile-lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    @Scheduled(cron = "${point.leaderboard.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            log.debug("[pointLeaderboard] another replica holds the lock. skip.");
+            return;
+        }
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            rebuild(lease);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfEmpty() {
+        try {
+            if (!leaderboard.exists()) {
+                reconcile();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[pointLeaderboard] startup reconcile skipped. cause={}", e.getMessage());
+        }
+    }
+
+    private void rebuild(RedisJobLock.JobLease lease) {
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+
+        leaderboard.beginRebuild();
+        try {
+            UUID after = MIN_UUID;
+            List<UserPointSnapshot> chunk;
+            do {
+                chunk = userRepository.findPointSnapshotsAfter(after, PageRequest.ofSize(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                leaderboard.appendToRebuild(chunk.stream()
+                        .map(s -> ZSetOperations.TypedTuple.of(s.userId().toString(), s.point().doubleValue()))
+                        .toList());
+                total += chunk.size();
+                after = chunk.get(chunk.size() - 1).userId();
+                if (!lease.renew()) {
+                    // 임시 키는 락을 새로 잡은 레플리카가 쓰고 있을 수 있으므로 지우지 않는다. (다음 beginRebuild 가 정리)
+                    log.warn("[pointLeaderboard] lock lost. abort rebuild. processed={}", total);
+                    return;
+                }
+            } while (chunk.size() == chunkSize);
+
+            leaderboard.commitRebuild();
+        } catch (RuntimeException e) {
+            leaderboard.abortRebuild();
+            log.error("[pointLeaderboard] reconcile failed. processed={}", total, e);
+            return;
+        }
+
+        log.info("[pointLeaderboard] reconciled. members={}, elapsedMs={}",
+                total, System.currentTimeMillis() - startedAt);
+    }
+}
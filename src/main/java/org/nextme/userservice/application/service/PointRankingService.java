@@ -0,0 +1,83 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.userservice.application.dto.PointRankResponse;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.infrastructure.ranking.RedisPointLeaderboard;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 포인트 랭킹 조회 유스케이스 서비스
+ *
+ * - 모든 조회는 Redis Sorted Set 만 사용 (Postgres 조회 없음)
+ * - 상위 N명 / 내 순위 / 내 주변 순위
+ */
+@Service
+@RequiredArgsConstructor
+public class PointRankingService {
+
+    private static final int MAX_TOP_SIZE = 100;
+    private static final int MAX_AROUND_RANGE = 10;
+
+    private final RedisPointLeaderboard leaderboard;
+
+    /** 상위 N명 조회 */
+    public List<PointRankResponse> getTopRanks(int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_TOP_SIZE);
+        return toResponses(leaderboard.top(limit), 0L);
+    }
+
+    /**
+     * 내 순위 조회
+     * - 포인트가 없어 랭킹에 없는 경우 null
+     */
+    public PointRankResponse getMyRank(UserId userId) {
+        UUID id = userId.getId();
+        Long rank = leaderboard.reverseRank(id);
+        if (rank == null) {
+            return null;
+        }
+        Double score = leaderboard.score(id);
+        return new PointRankResponse(rank + 1, id, score == null ? 0L : score.longValue());
+    }
+
+    /**
+     * 내 주변 순위 조회 (내 위/아래로 range 명씩)
+     * - 랭킹에 없으면 빈 목록
+     */
+    public List<PointRankResponse> getRanksAroundMe(UserId userId, int range) {
+        Long rank = leaderboard.reverseRank(userId.getId());
+        if (rank == null) {
+            return List.of();
+        }
+        int window = Math.min(Math.max(range, 0), MAX_AROUND_RANGE);
+        long start = Math.max(rank - window, 0L);
+        return toResponses(leaderboard.range(start, rank + window), start);
+    }
+
+    private List<PointRankResponse> toResponses(
+            Set<ZSetOperations.TypedTuple<String>> tuples,
+            long startRank
+    ) {
+        if (tuples == null) {
+            return List.of();
+        }
+        List<PointRankResponse> responses = new ArrayList<>(tuples.size());
+        long rank = startRank;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Double score = tuple.getScore();
+            responses.add(new PointRankResponse(
+                    ++rank,
+                    UUID.fromString(tuple.getValue()),
+                    score == null ? 0L : score.longValue()
+            ));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,68 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 만료된 포인트 예약 자동 해제(환불) 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - 청크 단위(SKIP LOCKED)로 해제하므로 동시에 들어온 확정/취소 요청과 서로 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class PointReservationReleaseJob {
+
+    private static final String JOB_NAME = "point-reservation-release";
+
+    private final PointSpendService pointSpendService;
+    private final RedisJobLock jobLock;
+    private final Counter releasedReservations;
+
+    @Value("${point.reservation.release-chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${point.reservation.release-max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    @Value("${point.reservation.release-lock-ttl-ms:30000}")
+    private long lockTtlMs;
+
+    public PointReservationReleaseJob(
+            PointSpendService pointSpendService,
+            RedisJobLock jobLock,
+            MeterRegistry meterRegistry
+    ) {
+        this.pointSpendService = pointSpendService;
+        this.jobLock = jobLock;
+        this.releasedReservations = meterRegistry.counter("point.reservation.released.expired");
+    }
+
+    @Scheduled(fixedDelayString = "${point.reservation.release-fixed-delay-ms:30000}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int released = pointSpendService.releaseExpiredChunk(now, chunkSize);
+                releasedReservations.increment(released);
+                if (released < chunkSize || !lease.renew()) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.dto.PointBalanceResponse;
+import org.nextme.userservice.application.dto.PointReservationResponse;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.domain.PointLedgerEntry;
+import org.nextme.userservice.domain.PointReservation;
+import org.nextme.userservice.domain.PointReservationUsage;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.ConsumedPointLedger;
+import org.nextme.userservice.domain.repository.ExpiredPointReservation;
+import org.nextme.userservice.domain.repository.PointLedgerRepository;
+import org.nextme.userservice.domain.repository.PointReservationRepository;
+import org.nextme.userservice.domain.repository.PointReservationUsageRepository;
+import org.nextme.userservice.domain.repository.UserPointSnapshot;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 포인트 사용(차감) / 예약 / 확정 / 해제 유스케이스 서비스
+ *
+ * - 잔액 검사와 차감은 "point >= amount" 조건부 UPDATE 한 번으로 처리한다.
+ *   (검사 전에 잡는 락 없이, DB 가 UPDATE 시점에 잔액을 검사하므로 초과 사용이 불가능)
+ * - 예약은 즉시 차감 후 예약 행을 남기고, 확정/해제는 예약 상태 조건부 UPDATE 로만 전이한다.
+ * - 확정되지 않은 예약은 PointReservationReleaseJob 이 만료 시각 이후 자동 해제(환불)한다.
+ * - 차감이 성공하면 같은 트랜잭션에서 만료 원장(p_point_ledger)의 remaining 을 만료 시각이 이른 행부터
+ *   UPDATE 1회로 줄이고, 예약이 차감한 행은 p_point_reservation_usage 에 남겨 환불 시 같은 행에 되돌린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointSpendService {
+
+    private final UserRepository userRepository;
+    private final PointReservationRepository reservationRepository;
+    private final PointLedgerRepository ledgerRepository;
+    private final PointReservationUsageRepository usageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 예약 유지 시간 (초) */
+    @Value("${point.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
+
+    /**
+     * 포인트 즉시 사용
+     * - 잔액 부족: INSUFFICIENT_POINT
+     */
+    @Transactional
+    public PointBalanceResponse spend(UserId userId, Long amount) {
+        deduct(userId.getId(), amount);
+        return new PointBalanceResponse(publishBalances(Set.of(userId.getId())));
+    }
+
+    /**
+     * 포인트 예약 (즉시 차감 + 예약 행 생성)
+     * - 잔액 부족: INSUFFICIENT_POINT
+     */
+    @Transactional
+    public PointReservationResponse reserve(UserId userId, Long amount) {
+        Map<Long, Long> consumed = deduct(userId.getId(), amount);
+
+        LocalDateTime now = LocalDateTime.now();
+        PointReservation reservation = reservationRepository.save(
+                PointReservation.reserve(userId.getId(), amount, now, now.plusSeconds(reservationTtlSeconds))
+        );
+        usageRepository.saveAll(consumed.entrySet().stream()
+                .map(e -> PointReservationUsage.of(reservation.getId(), e.getKey(), e.getValue()))
+                .toList());
+
+        publishBalances(Set.of(userId.getId()));
+        return PointReservationResponse.from(reservation);
+    }
+
+    /**
+     * 예약 확정 (차감된 포인트를 그대로 소진)
+     * - 예약이 없거나, 이미 확정/해제되었거나, 만료된 경우: POINT_RESERVATION_NOT_ACTIVE
+     */
+    @Transactional
+    public void confirm(UserId userId, UUID reservationId) {
+        int updated = reservationRepository.confirm(reservationId, userId.getId(), LocalDateTime.now());
+        if (updated == 0) {
+            throw toAppException(ErrorCode.POINT_RESERVATION_NOT_ACTIVE);
+        }
+    }
+
+    /**
+     * 예약 취소 (차감된 포인트 환불)
+     * - 예약이 없거나, 이미 확정/해제된 경우: POINT_RESERVATION_NOT_ACTIVE
+     */
+    @Transactional
+    public PointBalanceResponse release(UserId userId, UUID reservationId) {
+        PointReservation reservation = reservationRepository.findById(reservationId)
+                .filter(r -> r.getUserId().equals(userId.getId()))
+                .orElseThrow(() -> toAppException(ErrorCode.POINT_RESERVATION_NOT_ACTIVE));
+
+        // 상태 조건부 전이에 성공한 한 건만 환불 (동시 취소/자동 해제와 중복 환불 방지)
+        int updated = reservationRepository.release(reservationId, userId.getId(), LocalDateTime.now());
+        if (updated == 0) {
+            throw toAppException(ErrorCode.POINT_RESERVATION_NOT_ACTIVE);
+        }
+        restoreLedger(List.of(reservationId));
+        userRepository.addPoint(userId.getId(), reservation.getAmount());
+
+        return new PointBalanceResponse(publishBalances(Set.of(userId.getId())));
+    }
+
+    /**
+     * 만료된 예약 청크 자동 해제 (PointReservationReleaseJob 에서 호출)
+     * @return 해제한 예약 수
+     */
+    @Transactional
+    public int releaseExpiredChunk(LocalDateTime now, int chunkSize) {
+        List<ExpiredPointReservation> expired = reservationRepository.lockExpiredReservations(now, chunkSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // userId 순서로 잠근다. (포인트 적립 배치 / 만료 잡과 같은 순서 → 교착 방지)
+        Map<UUID, Long> refundByUser = new TreeMap<>();
+        for (ExpiredPointReservation reservation : expired) {
+            refundByUser.merge(reservation.getUserId(), reservation.getAmount(), Long::sum);
+        }
+
+        List<UUID> reservationIds = expired.stream().map(ExpiredPointReservation::getId).toList();
+        reservationRepository.releaseAll(reservationIds, now);
+        restoreLedger(reservationIds);
+        refundByUser.forEach(userRepository::addPoint);
+
+        publishBalances(refundByUser.keySet());
+        return expired.size();
+    }
+
+    // ==========================
+    //  내부 공통
+    // ==========================
+
+    /**
+     * 포인트 차감 + 만료 원장 행 사용 처리
+     * - 조건부 UPDATE 로 먼저 차감하고, 성공했을 때만 원장 행을 UPDATE 1회로 줄인다.
+     * - 사용 가능한 원장 행이 없는 유저는 원장 UPDATE 를 건너뛴다.
+     * @return 원장 행 id → 사용한 양
+     */
+    private Map<Long, Long> deduct(UUID userId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw toAppException(ErrorCode.INVALID_POINT_AMOUNT);
+        }
+        if (userRepository.deductPointIfEnough(userId, amount) == 0) {
+            // 0건: 유저가 없거나 잔액 부족
+            if (!userRepository.existsById(UserId.of(userId))) {
+                throw toAppException(ErrorCode.USER_NOT_FOUND);
+            }
+            throw toAppException(ErrorCode.INSUFFICIENT_POINT);
+        }
+
+        Map<Long, Long> consumed = new LinkedHashMap<>();
+        if (ledgerRepository.existsByUserIdAndRemainingGreaterThan(userId, 0L)) {
+            for (ConsumedPointLedger row : ledgerRepository.consumeSpendable(userId, amount)) {
+                consumed.put(row.getLedgerId(), row.getTaken());
+            }
+        }
+        return consumed;
+    }
+
+    // 해제된 예약들이 사용했던 원장 행에 포인트 되돌리기
+    private void restoreLedger(List<UUID> reservationIds) {
+        Map<Long, Long> restoreByLedger = new LinkedHashMap<>();
+        for (PointReservationUsage usage : usageRepository.findByReservationIdIn(reservationIds)) {
+            restoreByLedger.merge(usage.getLedgerId(), usage.getAmount(), Long::sum);
+        }
+        if (restoreByLedger.isEmpty()) {
+            return;
+        }
+        for (PointLedgerEntry entry : ledgerRepository.lockByIds(restoreByLedger.keySet())) {
+            entry.restore(restoreByLedger.get(entry.getId()));
+        }
+    }
+
+    /**
+     * 변경된 잔액을 조회해 랭킹 반영 이벤트 발행 (커밋 이후 처리)
+     * @return 유저가 한 명이면 그 유저의 잔액
+     */
+    private long publishBalances(Collection<UUID> userIds) {
+        long last = 0L;
+        for (UserPointSnapshot snapshot : userRepository.findPointSnapshots(userIds)) {
+            eventPublisher.publishEvent(new UserPointChangedEvent(snapshot.userId(), snapshot.point()));
+            last = snapshot.point();
+        }
+        return last;
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.userservice.application.dto.PointStatementResponse;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.PointDailyRollupRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 포인트 명세 조회 서비스
+ *
+ * - 일별/프로모션별 집계 행(p_point_daily_rollup)만 읽는다.
+ * - 원본 적립 건수와 무관하게 (일수 x 프로모션 수) 만큼만 조회된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointStatementService {
+
+    /** 기간 미지정 시 기본 조회 기간 (일) */
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+
+    private final PointDailyRollupRepository rollupRepository;
+
+    @Transactional(readOnly = true)
+    public Page<PointStatementResponse> getStatement(
+            UserId userId,
+            LocalDate from,
+            LocalDate to,
+            Pageable pageable
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_PERIOD_DAYS);
+
+        return rollupRepository
+                .findByUserIdAndRollupDateBetween(userId.getId(), start, end, pageable)
+                .map(PointStatementResponse::from);
+    }
+}
@@ -0,0 +1,53 @@
+package org.nextme.userservice.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.domain.repository.ProcessedMessageRepository;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 처리 완료 메시지 기록(p_processed_message) 정리 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - 재전달될 수 있는 기간(토픽 보존 기간)보다 길게 보관한 뒤 삭제한다.
+ */
+@Slf4j
+@Component
+public class ProcessedMessageCleanupJob {
+
+    private static final String JOB_NAME = "processed-message-cleanup";
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final RedisJobLock jobLock;
+
+    @Value("${point.earn.processed-retention-days:14}")
+    private int retentionDays;
+
+    @Value("${point.earn.processed-cleanup-lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    public ProcessedMessageCleanupJob(ProcessedMessageRepository processedMessageRepository, RedisJobLock jobLock) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.jobLock = jobLock;
+    }
+
+    @Scheduled(cron = "${point.earn.processed-cleanup-cron:0 20 3 * * *}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            int deleted = processedMessageRepository.deleteProcessedBefore(
+                    LocalDateTime.now().minusDays(retentionDays));
+            log.info("[processedMessage] cleaned up. retentionDays={}, deleted={}", retentionDays, deleted);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.nextme.userservice.application.service;
+
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 목록 API 의 fields 파라미터 (sparse fieldset) 해석
+ *
+ * - "userName,status" 처럼 쉼표로 구분한 JSON 필드명 (대소문자 무시)
+ * - 비어 있으면 전체 필드
+ * - 알 수 없는 필드명은 INVALID_FIELDS (400)
+ */
+final class ResponseFields {
+
+    private ResponseFields() {
+    }
+
+    static <E extends Enum<E>> Set<E> parse(String fields, Class<E> type, Function<E, String> jsonName) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(type);
+        }
+        EnumSet<E> result = EnumSet.noneOf(type);
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            result.add(find(type, jsonName, name));
+        }
+        return result.isEmpty() ? EnumSet.allOf(type) : result;
+    }
+
+    private static <E extends Enum<E>> E find(Class<E> type, Function<E, String> jsonName, String name) {
+        for (E candidate : type.getEnumConstants()) {
+            if (jsonName.apply(candidate).toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                return candidate;
+            }
+        }
+        ErrorCode errorCode = ErrorCode.INVALID_FIELDS;
+        throw new ApplicationException(errorCode.getHttpStatus(), errorCode.getCode(), errorCode.getDefaultMessage());
+    }
+}
@@ -0,0 +1,128 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴/장기 휴면 유저 아카이브 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - 작은 청크(chunk-size) 단위로 처리하고 청크 사이에 쉬어(pause-between-chunks-ms) 다른 API 와 경합하지 않도록 한다.
+ * - 1회 실행당 최대 청크 수(max-chunks-per-run)를 넘으면 checkpoint 에서 멈추고 다음 주기에 이어서 처리한다.
+ * - 청크가 lock_timeout 등으로 실패하면 이번 실행만 멈춘다. (이미 커밋된 청크와 checkpoint 는 유지)
+ *
+ * 메트릭
+ * - user.archive.archived       : 아카이브한 유저 수
+ * - user.archive.chunk          : 청크 처리 시간
+ * - user.archive.last.completed : 마지막으로 대상을 끝까지 훑은 시각 (epoch seconds)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserArchiveJob {
+
+    private static final String JOB_NAME = "user-archive";
+
+    private final UserArchiveService archiveService;
+    private final RedisJobLock jobLock;
+
+    private final Counter archivedUsers;
+    private final Timer chunkTimer;
+    private final AtomicLong lastCompletedEpochSeconds = new AtomicLong();
+
+    @Value("${user.archive.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${user.archive.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${user.archive.pause-between-chunks-ms:200}")
+    private long pauseBetweenChunksMs;
+
+    @Value("${user.archive.deleted-retention-days:30}")
+    private long deletedRetentionDays;
+
+    @Value("${user.archive.inactive-days:365}")
+    private long inactiveDays;
+
+    @Value("${user.archive.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    public UserArchiveJob(UserArchiveService archiveService, RedisJobLock jobLock, MeterRegistry meterRegistry) {
+        this.archiveService = archiveService;
+        this.jobLock = jobLock;
+        this.archivedUsers = meterRegistry.counter("user.archive.archived");
+        this.chunkTimer = meterRegistry.timer("user.archive.chunk");
+        meterRegistry.gauge("user.archive.last.completed", lastCompletedEpochSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${user.archive.fixed-delay-ms:3600000}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            log.debug("[userArchive] another replica holds the lock. skip.");
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+            LocalDateTime inactiveBefore = now.minusDays(inactiveDays);
+            int chunks = 0;
+            long total = 0;
+
+            while (chunks < maxChunksPerRun) {
+                UserArchiveService.ChunkResult result;
+                try {
+                    result = chunkTimer.record(() -> archiveService.archiveChunk(deletedBefore, inactiveBefore, chunkSize));
+                } catch (RuntimeException e) {
+                    log.warn("[userArchive] chunk failed. stop this run. cause={}", e.getMessage());
+                    break;
+                }
+                chunks++;
+                archivedUsers.increment(result.archived());
+                total += result.archived();
+
+                if (result.completed()) {
+                    lastCompletedEpochSeconds.set(System.currentTimeMillis() / 1000L);
+                    break;
+                }
+                if (!lease.renew()) {
+                    log.warn("[userArchive] lock lost. stop after {} chunks.", chunks);
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+
+            log.info("[userArchive] done. chunks={}, archived={}", chunks, total);
+        }
+    }
+
+    /** 청크 사이 스로틀링 (인터럽트되면 false) */
+    private boolean pause() {
+        if (pauseBetweenChunksMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.application.evnt.dto.UserBulkChangedEvent;
+import org.nextme.userservice.domain.AuditAction;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.ArchiveCandidate;
+import org.nextme.userservice.domain.repository.JobCheckpointRepository;
+import org.nextme.userservice.domain.repository.UserArchiveRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 탈퇴/장기 휴면 유저 아카이브 + 복원
+ *
+ * - 청크 1개 = 짧은 트랜잭션 1개 (후보 잠금 → 아카이브 INSERT → 원본 DELETE → checkpoint 저장)
+ *   - checkpoint 를 같은 트랜잭션에 저장하므로 중간에 멈춰도 마지막 커밋된 청크 다음부터 이어간다.
+ *   - 끝까지 돌면 checkpoint 를 비워 다음 실행은 처음부터 다시 훑는다. (SKIP LOCKED 로 건너뛴 행 포함)
+ * - 아카이브/복원된 유저는 UserBulkChangedEvent 로 알려 캐시(version 스탬프 등)를 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserArchiveService {
+
+    static final String CHECKPOINT_NAME = "user-archive";
+
+    private final UserArchiveRepository userArchiveRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final UserNameAvailabilityService userNameAvailabilityService;
+    private final AuditLogWriter auditLogWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * checkpoint 다음부터 최대 chunkSize 명을 아카이브
+     *
+     * @param deletedBefore  DELETED 유저는 updated_at 이 이 시각 이전이면 대상
+     * @param inactiveBefore INACTIVE 유저는 마지막 로그인이 이 시각 이전이면 대상
+     */
+    @Transactional
+    public ChunkResult archiveChunk(LocalDateTime deletedBefore, LocalDateTime inactiveBefore, int chunkSize) {
+        UUID afterUserId = checkpointRepository.find(CHECKPOINT_NAME).map(UUID::fromString).orElse(null);
+        List<ArchiveCandidate> candidates =
+                userArchiveRepository.lockCandidates(afterUserId, deletedBefore, inactiveBefore, chunkSize);
+
+        boolean completed = candidates.size() < chunkSize;
+        if (candidates.isEmpty()) {
+            checkpointRepository.save(CHECKPOINT_NAME, null);
+            return new ChunkResult(0, true);
+        }
+
+        List<UUID> userIds = candidates.stream().map(ArchiveCandidate::userId).toList();
+        userArchiveRepository.archive(userIds, LocalDateTime.now());
+        checkpointRepository.save(CHECKPOINT_NAME, completed ? null : userIds.get(userIds.size() - 1).toString());
+
+        for (ArchiveCandidate candidate : candidates) {
+            auditLogWriter.record(AuditAction.USER_ARCHIVED, candidate.userId(), "status: " + candidate.status());
+        }
+        eventPublisher.publishEvent(new UserBulkChangedEvent(userIds, AuditAction.USER_ARCHIVED.name()));
+        return new ChunkResult(candidates.size(), completed);
+    }
+
+    /**
+     * 아카이브된 유저 복원 (아카이브 당시 상태 그대로 되돌림)
+     * - 그 사이 같은 user_name / 소셜 계정을 다른 유저가 쓰고 있으면 USER_RESTORE_CONFLICT
+     */
+    @Transactional
+    public void restore(UserId userId) {
+        String userName;
+        try {
+            userName = userArchiveRepository.restore(userId.getId())
+                    .orElseThrow(() -> toAppException(ErrorCode.ARCHIVED_USER_NOT_FOUND));
+        } catch (DataIntegrityViolationException e) {
+            throw toAppException(ErrorCode.USER_RESTORE_CONFLICT);
+        }
+
+        userNameAvailabilityService.markTaken(userName);
+        auditLogWriter.record(AuditAction.USER_RESTORED, userId.getId(), null);
+        eventPublisher.publishEvent(new UserBulkChangedEvent(List.of(userId.getId()), AuditAction.USER_RESTORED.name()));
+    }
+
+    /**
+     * @param archived  이번 청크에서 아카이브한 유저 수
+     * @param completed 마지막 청크였는지 (대상이 더 없음)
+     */
+    public record ChunkResult(int archived, boolean completed) {
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
@@ -0,0 +1,310 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.common.security.UserPrincipal;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.dto.BulkUserChangeRequest;
+import org.nextme.userservice.application.dto.BulkUserChangeResponse;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.application.evnt.dto.UserBulkChangedEvent;
+import org.nextme.userservice.domain.AuditAction;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.AdminUserSearchCondition;
+import org.nextme.userservice.domain.repository.AdminUserSearchRepository;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.infrastructure.jwt.service.RedisUserTokenRevocation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자 일괄 상태/권한 변경 (스팸 계정 일괄 차단 등)
+ *
+ * - 엔티티를 로딩하지 않고 청크(chunk-size)마다 set-based UPDATE 1회 + 짧은 트랜잭션 1개
+ *   - userIds: 요청 순서대로 청크로 나눔
+ *   - filter : 관리자 검색 조건으로 user_id 오름차순 keyset 청크 조회 후 UPDATE (요청당 max-users-per-request 까지)
+ * - 청크마다 커밋 후
+ *   - 바뀐 유저의 토큰을 Redis 파이프라인 1회로 무효화 (ACTIVE 로 되돌리는 변경만 있는 경우 제외)
+ *   - UserBulkChangedEvent 1회 발행 (캐시 무효화 등), 유저별 감사 로그
+ * - 요청한 관리자 본인은 대상에서 제외한다.
+ * - MASTER 를 잃을 수 있는 변경은 청크 UPDATE 전에 ACTIVE MASTER 행을 잠그고(동시 요청의 write skew 방지),
+ *   UPDATE 후 ACTIVE MASTER 가 남지 않으면 그 청크를 롤백한다.
+ * - 청크가 실패하면 거기서 멈추고, 이미 커밋된 청크 수/변경 수와 이어서 처리할 위치를 errorCode 와 함께 응답한다.
+ *   (첫 청크부터 실패하면 바뀐 것이 없으므로 그대로 에러 응답)
+ *
+ * 메트릭
+ * - user.bulk_change.users               : 실제로 변경된 유저 수
+ * - user.bulk_change.revocation.failures : 토큰 무효화(Redis) 실패 청크 수
+ */
+@Slf4j
+@Service
+public class UserBulkChangeService {
+
+    static final String EVENT_REASON = "USER_BULK_CHANGED";
+
+    private final UserRepository userRepository;
+    private final AdminUserSearchRepository adminUserSearchRepository;
+    private final RedisUserTokenRevocation tokenRevocation;
+    private final AuditLogWriter auditLogWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter changedUsers;
+    private final Counter revocationFailures;
+
+    @Value("${user.bulk-change.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${user.bulk-change.max-users-per-request:50000}")
+    private int maxUsersPerRequest;
+
+    public UserBulkChangeService(
+            UserRepository userRepository,
+            AdminUserSearchRepository adminUserSearchRepository,
+            RedisUserTokenRevocation tokenRevocation,
+            AuditLogWriter auditLogWriter,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.adminUserSearchRepository = adminUserSearchRepository;
+        this.tokenRevocation = tokenRevocation;
+        this.auditLogWriter = auditLogWriter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.changedUsers = meterRegistry.counter("user.bulk_change.users");
+        this.revocationFailures = meterRegistry.counter("user.bulk_change.revocation.failures");
+    }
+
+    public BulkUserChangeResponse change(BulkUserChangeRequest request) {
+        boolean byIds = request.userIds() != null && !request.userIds().isEmpty();
+        boolean byFilter = request.filter() != null && hasAnyCondition(request.filter().toCondition());
+        if (byIds == byFilter || (request.status() == null && request.role() == null)) {
+            throw toAppException(ErrorCode.INVALID_BULK_CHANGE);
+        }
+
+        Change change = new Change(request.status(), request.role(), currentActorId());
+        if (byIds) {
+            LinkedHashSet<UUID> userIds = new LinkedHashSet<>(request.userIds());
+            if (change.actorId() != null) {
+                userIds.remove(change.actorId());
+            }
+            return changeByIds(new ArrayList<>(userIds), change);
+        }
+        return changeByFilter(request.filter().toCondition(), request.afterUserId(), change);
+    }
+
+    // ==========================
+    //  대상 선택
+    // ==========================
+
+    private BulkUserChangeResponse changeByIds(List<UUID> userIds, Change change) {
+        int chunks = 0;
+        int changed = 0;
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            List<UUID> applied;
+            try {
+                applied = transactionTemplate.execute(status -> apply(chunk, change));
+            } catch (RuntimeException e) {
+                return stopped(e, chunks, changed, null, List.copyOf(userIds.subList(from, userIds.size())));
+            }
+            changed += afterCommit(applied, change);
+            chunks++;
+        }
+        return BulkUserChangeResponse.completed(chunks, changed, null);
+    }
+
+    private BulkUserChangeResponse changeByFilter(AdminUserSearchCondition condition, UUID afterUserId, Change change) {
+        int chunks = 0;
+        int changed = 0;
+        int scanned = 0;
+        UUID after = afterUserId;
+
+        while (true) {
+            UUID cursor = after;
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> {
+                    List<UUID> ids = adminUserSearchRepository.findUserIdsAfter(condition, cursor, chunkSize);
+                    return new ChunkResult(ids, ids.isEmpty() ? List.of() : apply(ids, change));
+                });
+            } catch (RuntimeException e) {
+                return stopped(e, chunks, changed, cursor, null);
+            }
+            if (result.scanned().isEmpty()) {
+                return BulkUserChangeResponse.completed(chunks, changed, null);
+            }
+
+            changed += afterCommit(result.applied(), change);
+            chunks++;
+            scanned += result.scanned().size();
+            after = result.scanned().get(result.scanned().size() - 1);
+
+            if (result.scanned().size() < chunkSize) {
+                return BulkUserChangeResponse.completed(chunks, changed, null);
+            }
+            if (scanned >= maxUsersPerRequest) {
+                log.info("[bulkChange] stop at max users per request. scanned={}, resumeAfter={}", scanned, after);
+                return BulkUserChangeResponse.completed(chunks, changed, after);
+            }
+        }
+    }
+
+    // ==========================
+    //  청크 처리
+    // ==========================
+
+    /**
+     * 청크 실패 처리
+     * - 커밋된 청크가 없으면 그대로 에러로 돌려준다.
+     * - 있으면 여기까지의 결과와 이어서 처리할 위치를 응답한다.
+     */
+    private BulkUserChangeResponse stopped(
+            RuntimeException e, int chunks, int changed, UUID resumeAfterUserId, List<UUID> unprocessedUserIds
+    ) {
+        ErrorCode errorCode = e instanceof ChunkRejectedException rejected
+                ? rejected.errorCode
+                : ErrorCode.BULK_CHANGE_INTERRUPTED;
+        if (chunks == 0) {
+            throw e instanceof ChunkRejectedException ? toAppException(errorCode) : e;
+        }
+        log.warn("[bulkChange] stopped after {} chunks. changed={}, errorCode={}, resumeAfter={}",
+                chunks, changed, errorCode.getCode(), resumeAfterUserId, e);
+        return new BulkUserChangeResponse(chunks, changed, resumeAfterUserId, unprocessedUserIds, errorCode.getCode());
+    }
+
+    /** 트랜잭션 안: UPDATE 1회 + 이벤트/감사 로그 (둘 다 커밋 후 반영) */
+    private List<UUID> apply(List<UUID> userIds, Change change) {
+        List<UUID> targets = change.actorId() == null
+                ? userIds
+                : userIds.stream().filter(userId -> !userId.equals(change.actorId())).toList();
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        if (change.mayRemoveMaster()) {
+            // 다른 MASTER 를 강등/차단하는 동시 요청이 각자 "MASTER 가 남아 있음" 을 확인하고 둘 다 커밋하지 않도록
+            userRepository.lockActiveMasterIds();
+        }
+
+        List<UUID> applied = userRepository.changeStatusAndRole(targets, change.statusName(), change.roleName());
+        if (applied.isEmpty()) {
+            return applied;
+        }
+        if (change.mayRemoveMaster() && !userRepository.existsByRoleAndStatus(UserRole.MASTER, UserStatus.ACTIVE)) {
+            // 예외로 청크 트랜잭션 롤백
+            throw new ChunkRejectedException(ErrorCode.LAST_ACTIVE_MASTER_REQUIRED);
+        }
+
+        for (UUID userId : applied) {
+            if (change.status() != null) {
+                auditLogWriter.record(AuditAction.STATUS_CHANGED, userId, "status -> " + change.status());
+            }
+            if (change.role() != null) {
+                auditLogWriter.record(AuditAction.ROLE_CHANGED, userId, "role -> " + change.role());
+            }
+        }
+        eventPublisher.publishEvent(new UserBulkChangedEvent(List.copyOf(applied), EVENT_REASON));
+        return applied;
+    }
+
+    /** 커밋 후: 토큰 무효화 (파이프라인 1회) */
+    private int afterCommit(List<UUID> applied, Change change) {
+        if (applied == null || applied.isEmpty()) {
+            return 0;
+        }
+        changedUsers.increment(applied.size());
+        if (change.revokesTokens()) {
+            try {
+                tokenRevocation.revokeAll(applied);
+            } catch (RuntimeException e) {
+                revocationFailures.increment();
+                log.error("[bulkChange] token revocation failed. users={}", applied.size(), e);
+            }
+        }
+        return applied.size();
+    }
+
+    /** 요청한 관리자 (인증 정보가 없거나 userId 가 UUID 가 아니면 null) */
+    private UUID currentActorId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            try {
+                return UUID.fromString(principal.userId());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAnyCondition(AdminUserSearchCondition condition) {
+        return condition.status() != null
+                || condition.role() != null
+                || condition.advisorStatus() != null
+                || condition.userNamePrefix() != null
+                || condition.namePrefix() != null;
+    }
+
+    /**
+     * 변경할 값
+     * - 상태를 ACTIVE 외로 바꾸거나 권한을 바꾸면 기존 토큰을 무효화한다. (토큰에 권한이 들어 있으므로)
+     * - actorId: 요청한 관리자 (대상에서 제외)
+     */
+    private record Change(UserStatus status, UserRole role, UUID actorId) {
+
+        String statusName() {
+            return status == null ? null : status.name();
+        }
+
+        String roleName() {
+            return role == null ? null : role.name();
+        }
+
+        boolean revokesTokens() {
+            return (status != null && status != UserStatus.ACTIVE) || role != null;
+        }
+
+        /** MASTER 를 다른 권한으로 바꾸거나 ACTIVE 가 아닌 상태로 바꿀 수 있는 변경 */
+        boolean mayRemoveMaster() {
+            return (status != null && status != UserStatus.ACTIVE) || (role != null && role != UserRole.MASTER);
+        }
+    }
+
+    private record ChunkResult(List<UUID> scanned, List<UUID> applied) {
+    }
+
+    /** 청크 트랜잭션을 롤백시키는 검증 실패 (사유는 응답의 errorCode 로) */
+    private static final class ChunkRejectedException extends RuntimeException {
+
+        private final ErrorCode errorCode;
+
+        private ChunkRejectedException(ErrorCode errorCode) {
+            super(errorCode.getDefaultMessage());
+            this.errorCode = errorCode;
+        }
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
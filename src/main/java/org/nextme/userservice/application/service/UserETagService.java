@@ -0,0 +1,71 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.domain.User;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.infrastructure.cache.RedisUserVersionStamp;
+import org.nextme.userservice.infrastructure.persistence.routing.ReadYourWritesContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * /me, /me/profile 조건부 GET 용 ETag 계산
+ *
+ * - ETag = "{resource}-{userId}-{version}" (strong)
+ *   - version: p_user.version. 프로필 수정도 User.version 을 올리므로(OPTIMISTIC_FORCE_INCREMENT) 두 응답 모두 이 값으로 충분하다.
+ *   - userId 를 넣어 같은 브라우저에서 계정이 바뀌어도 다른 유저의 캐시가 304 로 재사용되지 않게 한다.
+ * - 304 판단(cachedETag)은 Redis 스탬프(RedisUserVersionStamp)만 본다. (DB 조회 / JSON 직렬화 없음)
+ * - 본문은 load 로 primary 에서 읽고, ETag 는 그때 읽은 엔티티의 version 으로 만든다.
+ *   - 레플리카는 관리자 승인/일괄 변경/포인트 적립처럼 다른 쪽에서 쓴 변경을 아직 못 받았을 수 있어서,
+ *     새 ETag 에 옛 본문이 붙어 이후 요청이 계속 304 로 굳는 일을 막는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserETagService {
+
+    private final UserRepository userRepository;
+    private final RedisUserVersionStamp versionStamp;
+
+    /**
+     * @param resource 응답 종류 (예: "me", "profile")
+     * @return 스탬프로 만든 현재 ETag (스탬프가 없으면 null → load 로 본문과 함께 계산)
+     */
+    public String cachedETag(UserId userId, String resource) {
+        Long version = versionStamp.get(userId.getId());
+        return version == null ? null : eTagOf(resource, userId.getId(), version);
+    }
+
+    /**
+     * primary 에서 유저를 읽어 본문과 ETag 를 같은 version 으로 만든다.
+     *
+     * @param mapper 응답 변환 (트랜잭션 안에서 호출되므로 지연 로딩 가능)
+     */
+    @Transactional(readOnly = true)
+    public <T> Tagged<T> load(UserId userId, String resource, Function<User, T> mapper) {
+        ReadYourWritesContext.readFromPrimary();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    ErrorCode e = ErrorCode.USER_NOT_FOUND;
+                    return new ApplicationException(e.getHttpStatus(), e.getCode(), e.getDefaultMessage());
+                });
+
+        T body = mapper.apply(user);
+        UUID id = userId.getId();
+        versionStamp.put(id, user.getVersion());   // 더 높은 version 이 이미 있으면 무시됨
+        return new Tagged<>(eTagOf(resource, id, user.getVersion()), body);
+    }
+
+    private String eTagOf(String resource, UUID userId, long version) {
+        return "\"" + resource + "-" + userId + "-" + version + "\"";
+    }
+
+    /** 같은 version 으로 만든 ETag 와 본문 */
+    public record Tagged<T>(String eTag, T body) {
+    }
+}
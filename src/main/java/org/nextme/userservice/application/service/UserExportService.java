@@ -0,0 +1,162 @@
+package org.nextme.userservice.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.UserExportRow;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 유저 내보내기 (NDJSON / CSV 스트리밍)
+ *
+ * - DB 서버 커서(fetch size)로 읽으면서 바로 응답 스트림에 쓴다. (행 수와 무관하게 메모리 일정)
+ * - 엔티티가 아닌 프로젝션(UserExportRow)만 읽으므로 영속성 컨텍스트가 커지지 않는다.
+ * - 클라이언트가 연결을 끊으면 쓰기에서 IOException 이 발생 → 스트림(커서)을 닫고 트랜잭션을 롤백해 조회를 중단한다.
+ *
+ * 메트릭
+ * - user.export.rows    : 내보낸 행 수
+ * - user.export.aborted : 클라이언트 연결 종료로 중단된 횟수
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final String CSV_HEADER =
+            "userId,userName,name,email,slackId,role,status,advisorStatus,point,createdAt\n";
+
+    private final UserRepository userRepository;
+    private final ObjectWriter jsonWriter;
+    private final Counter exportedRows;
+    private final Counter abortedExports;
+
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.jsonWriter = objectMapper.writerFor(UserExportRow.class);
+        this.exportedRows = meterRegistry.counter("user.export.rows");
+        this.abortedExports = meterRegistry.counter("user.export.aborted");
+    }
+
+    public enum Format {
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+        CSV("csv", MediaType.parseMediaType("text/csv; charset=UTF-8"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
+    /** format 파라미터 해석 (ndjson / csv) */
+    public Format resolveFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw toAppException(ErrorCode.INVALID_EXPORT_FORMAT);
+        }
+    }
+
+    /**
+     * 조건에 맞는 유저를 output 으로 스트리밍 (userId 순서)
+     * - StreamingResponseBody 의 비동기 스레드에서 호출되며, 쓰는 동안 읽기 트랜잭션 1개를 유지한다.
+     *
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(UserStatus status, UserRole role, Format format, OutputStream output) {
+        OutputStream out = new BufferedOutputStream(output, BUFFER_SIZE);
+        long count = 0;
+        try (Stream<UserExportRow> rows = userRepository.streamForExport(status, role)) {
+            if (format == Format.CSV) {
+                out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+            }
+            for (UserExportRow row : (Iterable<UserExportRow>) rows::iterator) {
+                if (format == Format.CSV) {
+                    writeCsv(out, row);
+                } else {
+                    out.write(jsonWriter.writeValueAsBytes(row));
+                    out.write(NEW_LINE);
+                }
+                count++;
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등: 커서는 try-with-resources 로 닫히고, 예외 전파로 트랜잭션 롤백
+            abortedExports.increment();
+            log.info("[userExport] aborted after {} rows. cause={}", count, e.getMessage());
+            throw new UncheckedIOException(e);
+        } finally {
+            exportedRows.increment(count);
+        }
+        log.info("[userExport] finished. rows={}, format={}", count, format);
+        return count;
+    }
+
+    private void writeCsv(OutputStream out, UserExportRow row) throws IOException {
+        StringBuilder line = new StringBuilder(160);
+        line.append(row.userId()).append(',');
+        appendCsv(line, row.userName()).append(',');
+        appendCsv(line, row.name()).append(',');
+        appendCsv(line, row.email()).append(',');
+        appendCsv(line, row.slackId()).append(',');
+        line.append(row.role()).append(',');
+        line.append(row.status()).append(',');
+        line.append(row.advisorStatus()).append(',');
+        line.append(row.point()).append(',');
+        line.append(row.createdAt() != null ? row.createdAt() : "").append('\n');
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 " 는 "" 로 이스케이프 (RFC 4180) */
+    private StringBuilder appendCsv(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
@@ -0,0 +1,171 @@
+package org.nextme.userservice.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.nextme.userservice.application.dto.UserImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 유저 일괄 가져오기 입력 스트림 리더 (한 줄씩 읽어 행 단위로 넘긴다, 파일 전체를 메모리에 올리지 않음)
+ *
+ * - CSV   : 첫 줄은 헤더 (userName,password,passwordHash,name,slackId,email 중 필요한 열, 순서 무관)
+ *           큰따옴표로 감싼 값과 "" 이스케이프 지원 (값 안의 줄바꿈은 지원하지 않음)
+ * - NDJSON: 한 줄에 JSON 객체 하나
+ * - 빈 줄은 건너뛴다.
+ */
+class UserImportReader {
+
+    enum Format {
+        CSV,
+        NDJSON;
+
+        /** Content-Type 으로 형식 판단 (지원하지 않으면 null) */
+        static Format fromContentType(String contentType) {
+            if (contentType == null) {
+                return null;
+            }
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+            return null;
+        }
+    }
+
+    /** 읽은 1행: 파싱에 실패하면 row 는 null, error 에 사유 */
+    record Line(long lineNumber, UserImportRow row, String error) {
+    }
+
+    private static final List<String> COLUMNS =
+            List.of("username", "password", "passwordhash", "name", "slackid", "email");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> columnIndex;
+    private long lineNumber;
+
+    UserImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(UserImportRow.class);
+    }
+
+    /**
+     * CSV 헤더 읽기 (NDJSON 은 아무것도 하지 않음)
+     * @return 헤더가 없거나 userName 열이 없으면 false
+     */
+    boolean readHeader() {
+        if (format != Format.CSV) {
+            return true;
+        }
+        String header = nextNonBlankLine();
+        if (header == null) {
+            return false;
+        }
+        List<String> names = splitCsv(header);
+        columnIndex = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(name)) {
+                columnIndex.put(name, i);
+            }
+        }
+        return columnIndex.containsKey("username");
+    }
+
+    /** 다음 데이터 행 (끝이면 null) */
+    Line next() {
+        String raw = nextNonBlankLine();
+        if (raw == null) {
+            return null;
+        }
+        try {
+            UserImportRow row = format == Format.CSV ? parseCsv(raw) : jsonReader.readValue(raw);
+            return new Line(lineNumber, row, null);
+        } catch (IOException | IllegalArgumentException e) {
+            return new Line(lineNumber, null, format == Format.CSV ? e.getMessage() : "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private String nextNonBlankLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UserImportRow parseCsv(String raw) {
+        List<String> values = splitCsv(raw);
+        return new UserImportRow(
+                column(values, "username"),
+                column(values, "password"),
+                column(values, "passwordhash"),
+                column(values, "name"),
+                column(values, "slackid"),
+                column(values, "email")
+        );
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = columnIndex.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /** RFC 4180 한 줄 분리 (따옴표 안의 쉼표, "" 이스케이프) */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
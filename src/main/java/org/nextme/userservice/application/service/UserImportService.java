@@ -0,0 +1,335 @@
+package org.nextme.userservice.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.dto.UserImportResponse;
+import org.nextme.userservice.application.dto.UserImportRow;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.domain.User;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 유저 일괄 가져오기 (CSV / NDJSON 스트리밍)
+ *
+ * 처리 흐름 (청크 단위)
+ * 1) 입력을 한 줄씩 읽어 검증, 청크(기본 1000행)가 차면 처리
+ * 2) 청크 안의 userName 중복 + DB 에 이미 있는 userName 을 한 번의 IN 조회로 걸러냄
+ * 3) 평문 비밀번호는 크기가 고정된 전용 풀에서 병렬로 BCrypt 해시 (커넥션을 잡지 않은 상태)
+ * 4) 청크 하나를 한 트랜잭션으로 저장 (Hibernate JDBC batch insert, hibernate.jdbc.batch_size)
+ *    - 그 사이 다른 경로로 같은 userName 이 생겨 unique 제약에 걸리면, 해당 청크만 행 단위로 다시 저장해 실패 행을 가려낸다.
+ * 5) 커밋된 userName 을 아이디 중복 확인 필터에 바로 반영 (UserNameAvailabilityService.markTaken)
+ *
+ * - 앞 청크는 이미 커밋되므로 중간에 실패해도 처리된 행은 남는다. (결과의 행별 오류로 재시도 대상 확인)
+ * - 비밀번호가 없는 행은 로그인 불가한 임의 해시로 만들고 passwordInitialized = false (비밀번호 최초 설정 필요)
+ * - 1M 행 기준: 해시가 필요 없는 행(passwordHash/비밀번호 없음)은 batch insert 속도로 처리되고,
+ *   평문 비밀번호 행은 BCrypt 비용 × 행 수 / hash-threads 만큼 걸린다.
+ *
+ * 메트릭
+ * - user.import.rows{result}: 가져오기 성공/실패 행 수
+ * - user.import.chunk       : 청크 처리 시간
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int MAX_PASSWORD_BYTES = 72;   // BCrypt 입력 한도
+
+    private final UserRepository userRepository;
+    private final UserNameAvailabilityService userNameAvailabilityService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor hashExecutor;
+
+    private final Counter importedRows;
+    private final Counter failedRows;
+    private final Timer chunkTimer;
+
+    private final int chunkSize;
+
+    @Value("${user.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserNameAvailabilityService userNameAvailabilityService,
+            PasswordEncoder passwordEncoder,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${user.import.hash-threads:4}") int hashThreads,
+            @Value("${user.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.userNameAvailabilityService = userNameAvailabilityService;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.hashExecutor = newHashExecutor(hashThreads, this.chunkSize);
+        this.importedRows = meterRegistry.counter("user.import.rows", "result", "imported");
+        this.failedRows = meterRegistry.counter("user.import.rows", "result", "failed");
+        this.chunkTimer = meterRegistry.timer("user.import.chunk");
+    }
+
+    /**
+     * 입력 스트림 전체를 가져온다.
+     *
+     * @param contentType text/csv 또는 application/x-ndjson
+     */
+    public UserImportResponse importUsers(InputStream input, String contentType) {
+        UserImportReader.Format format = UserImportReader.Format.fromContentType(contentType);
+        if (format == null) {
+            throw toAppException(ErrorCode.INVALID_IMPORT_FORMAT);
+        }
+        UserImportReader reader = new UserImportReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), format, objectMapper);
+        if (!reader.readHeader()) {
+            throw toAppException(ErrorCode.INVALID_IMPORT_FORMAT);
+        }
+
+        ImportResult result = new ImportResult(maxReportedErrors);
+        // 비밀번호가 없는 행에 공통으로 넣는 로그인 불가 해시 (가져오기 1회당 한 번만 계산)
+        String unusablePassword = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        List<Candidate> chunk = new ArrayList<>(chunkSize);
+        UserImportReader.Line line;
+        while ((line = reader.next()) != null) {
+            result.total++;
+            if (line.row() == null) {
+                result.fail(line.lineNumber(), null, "INVALID_ROW", line.error());
+                continue;
+            }
+            String error = validate(line.row());
+            if (error != null) {
+                result.fail(line.lineNumber(), line.row().userName(), "INVALID_ROW", error);
+                continue;
+            }
+            chunk.add(new Candidate(line.lineNumber(), line.row()));
+            if (chunk.size() >= chunkSize) {
+                chunkTimer.record(() -> writeChunk(List.copyOf(chunk), unusablePassword, result));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkTimer.record(() -> writeChunk(List.copyOf(chunk), unusablePassword, result));
+        }
+
+        log.info("[userImport] finished. total={}, imported={}, failed={}",
+                result.total, result.imported, result.failed);
+        return result.toResponse();
+    }
+
+    // ==========================
+    //  청크 처리
+    // ==========================
+
+    private void writeChunk(List<Candidate> chunk, String unusablePassword, ImportResult result) {
+        // 1) 청크 내 중복 + DB 에 이미 있는 userName 제외 (IN 조회 1회)
+        Set<String> existing = new HashSet<>(userRepository.findExistingUserNames(
+                chunk.stream().map(c -> c.row().userName()).toList()));
+        Set<String> seen = new HashSet<>();
+        List<Candidate> targets = new ArrayList<>(chunk.size());
+        for (Candidate candidate : chunk) {
+            String userName = candidate.row().userName();
+            if (existing.contains(userName) || !seen.add(userName)) {
+                result.fail(candidate.line(), userName, "DUPLICATE_USERNAME", "이미 사용 중인 아이디입니다.");
+            } else {
+                targets.add(candidate);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // 2) 비밀번호 해시 (전용 풀에서 병렬, 트랜잭션 밖)
+        List<CompletableFuture<Prepared>> futures = targets.stream()
+                .map(candidate -> CompletableFuture.supplyAsync(
+                        () -> prepare(candidate, unusablePassword), hashExecutor))
+                .toList();
+        List<Prepared> prepared = futures.stream().map(CompletableFuture::join).toList();
+
+        // 3) 청크 단위 저장 (batch insert)
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.saveAll(prepared.stream().map(this::toUser).toList()));
+            result.imported += prepared.size();
+            importedRows.increment(prepared.size());
+            prepared.forEach(row -> userNameAvailabilityService.markTaken(row.candidate().row().userName()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[userImport] chunk rejected by constraint, retrying row by row. size={}", prepared.size());
+            writeRowByRow(prepared, result);
+        }
+    }
+
+    /** 제약 위반이 난 청크만 행 단위로 다시 저장해 실패 행을 가려낸다. */
+    private void writeRowByRow(List<Prepared> prepared, ImportResult result) {
+        for (Prepared row : prepared) {
+            Candidate candidate = row.candidate();
+            try {
+                // 롤백된 트랜잭션의 엔티티는 재사용하지 않고 새로 만든다.
+                transactionTemplate.executeWithoutResult(status -> userRepository.save(toUser(row)));
+                result.imported++;
+                importedRows.increment();
+                userNameAvailabilityService.markTaken(candidate.row().userName());
+            } catch (DataIntegrityViolationException e) {
+                result.fail(candidate.line(), candidate.row().userName(), "DUPLICATE_USERNAME", "이미 사용 중인 아이디입니다.");
+            }
+        }
+    }
+
+    /** 비밀번호 해시까지 끝난 행 (해시 풀에서 실행) */
+    private Prepared prepare(Candidate candidate, String unusablePassword) {
+        UserImportRow row = candidate.row();
+        if (row.passwordHash() != null) {
+            return new Prepared(candidate, row.passwordHash(), true);
+        }
+        if (row.password() != null) {
+            return new Prepared(candidate, passwordEncoder.encode(row.password()), true);
+        }
+        return new Prepared(candidate, unusablePassword, false);
+    }
+
+    private User toUser(Prepared prepared) {
+        UserImportRow row = prepared.candidate().row();
+        return User.createImportedUser(
+                UserId.newId(),
+                row.userName(),
+                prepared.encodedPassword(),
+                prepared.passwordInitialized(),
+                row.name(),
+                row.slackId(),
+                row.email()
+        );
+    }
+
+    /** 행 검증 (p_user 컬럼 제약 기준), 정상이면 null */
+    private String validate(UserImportRow row) {
+        if (row.userName() == null || row.userName().isBlank()) {
+            return "userName 은 필수입니다.";
+        }
+        if (row.userName().length() > 25) {
+            return "userName 은 25자 이하여야 합니다.";
+        }
+        if (row.name() == null || row.name().isBlank()) {
+            return "name 은 필수입니다.";
+        }
+        if (row.name().length() > 50) {
+            return "name 은 50자 이하여야 합니다.";
+        }
+        if (row.slackId() != null && row.slackId().length() > 100) {
+            return "slackId 는 100자 이하여야 합니다.";
+        }
+        if (row.email() != null && row.email().length() > 100) {
+            return "email 은 100자 이하여야 합니다.";
+        }
+        if (row.password() != null && row.passwordHash() != null) {
+            return "password 와 passwordHash 는 함께 지정할 수 없습니다.";
+        }
+        if (row.password() != null && row.password().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "password 는 72바이트 이하여야 합니다.";
+        }
+        if (row.passwordHash() != null && !BCRYPT_HASH.matcher(row.passwordHash()).matches()) {
+            return "passwordHash 는 BCrypt 해시여야 합니다.";
+        }
+        return null;
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    /**
+     * BCrypt 전용 풀 (스레드 수 고정, 대기열은 청크 크기로 제한)
+     * - 대기열이 차면 호출 스레드가 직접 해시해 생산 속도를 자연스럽게 늦춘다.
+     */
+    private static ThreadPoolExecutor newHashExecutor(int threads, int queueCapacity) {
+        int size = Math.max(threads, 1);
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+
+    private record Candidate(long line, UserImportRow row) {
+    }
+
+    private record Prepared(Candidate candidate, String encodedPassword, boolean passwordInitialized) {
+    }
+
+    /** 가져오기 1회 누적 결과 (요청 스레드에서만 갱신) */
+    private final class ImportResult {
+        private final int maxErrors;
+        private final List<UserImportResponse.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportResult(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String userName, String code, String message) {
+            failed++;
+            failedRows.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportResponse.RowError(line, userName, code, message));
+            }
+        }
+
+        private UserImportResponse toResponse() {
+            return new UserImportResponse(total, imported, failed, errors, failed > errors.size());
+        }
+    }
+}
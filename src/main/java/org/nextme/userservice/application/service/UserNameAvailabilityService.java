@@ -0,0 +1,174 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.application.dto.UserNameAvailabilityResponse;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그인 ID 사용 가능 여부 확인 (회원가입 폼용)
+ *
+ * - 사용 중인 user_name 을 메모리 Bloom 필터(UserNameBloomFilter)로 들고 있다.
+ *   - 필터에 없으면 "확실히 사용 가능" → DB 조회 없이 응답
+ *   - 필터에 있으면(오탐 포함) user_name 유니크 인덱스로 확인
+ * - 적재/갱신은 AdvisorCatalog 와 같은 방식
+ *   - 최초 1회 user_name 순 keyset 청크로 전체 적재, 이후 created_at 기준 증분 (overlap 만큼 겹쳐 읽음)
+ *   - 주기적 전체 재적재: 유저 수 증가에 맞춰 필터 크기를 다시 잡고, 탈퇴/아카이브로 풀린 이름을 비운다.
+ * - 이 인스턴스에서 가입한 이름은 즉시 반영(markTaken), 다른 인스턴스 가입분은 다음 증분 갱신에서 반영된다.
+ *   그 사이 "사용 가능"으로 답한 이름은 가입 시 유니크 제약으로 걸러진다.
+ *
+ * 메트릭
+ * - user.name_check{result}      : filter_negative(DB 조회 없음) / index_taken / index_free / filter_unavailable
+ * - user.name_filter.insertions  : 필터에 넣은 이름 수
+ */
+@Slf4j
+@Service
+public class UserNameAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final AtomicReference<Loaded> current = new AtomicReference<>();
+    private final Counter filterNegative;
+    private final Counter indexTaken;
+    private final Counter indexFree;
+    private final Counter filterUnavailable;
+
+    @Value("${user.name-filter.enabled:true}")
+    private boolean enabled;
+
+    /** 필터 최소 용량 (유저 수가 적을 때도 오탐률이 급격히 오르지 않도록) */
+    @Value("${user.name-filter.min-expected-insertions:100000}")
+    private long minExpectedInsertions;
+
+    @Value("${user.name-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${user.name-filter.load-chunk-size:5000}")
+    private int loadChunkSize;
+
+    /** 증분 갱신 1회 최대 건수 (초과하면 전체 재적재) */
+    @Value("${user.name-filter.max-delta-size:5000}")
+    private int maxDeltaSize;
+
+    @Value("${user.name-filter.overlap-seconds:10}")
+    private long overlapSeconds;
+
+    public UserNameAvailabilityService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.filterNegative = meterRegistry.counter("user.name_check", "result", "filter_negative");
+        this.indexTaken = meterRegistry.counter("user.name_check", "result", "index_taken");
+        this.indexFree = meterRegistry.counter("user.name_check", "result", "index_free");
+        this.filterUnavailable = meterRegistry.counter("user.name_check", "result", "filter_unavailable");
+        meterRegistry.gauge("user.name_filter.insertions", current,
+                ref -> ref.get() == null ? 0 : ref.get().filter().insertions());
+    }
+
+    public UserNameAvailabilityResponse check(String userName) {
+        Loaded loaded = enabled ? current.get() : null;
+        if (loaded == null) {
+            filterUnavailable.increment();
+            return new UserNameAvailabilityResponse(userName, !userRepository.existsByUserName(userName));
+        }
+        if (!loaded.filter().mightContain(userName)) {
+            filterNegative.increment();
+            return new UserNameAvailabilityResponse(userName, true);
+        }
+        boolean taken = userRepository.existsByUserName(userName);
+        (taken ? indexTaken : indexFree).increment();
+        return new UserNameAvailabilityResponse(userName, !taken);
+    }
+
+    /** 이 인스턴스에서 가입 커밋된 이름을 바로 반영 */
+    public void markTaken(String userName) {
+        Loaded loaded = current.get();
+        if (loaded != null) {
+            loaded.filter().put(userName);
+        }
+    }
+
+    /** 증분 갱신 (최초 1회는 전체 적재) */
+    @Scheduled(
+            initialDelayString = "${user.name-filter.initial-delay-ms:0}",
+            fixedDelayString = "${user.name-filter.refresh-fixed-delay-ms:5000}"
+    )
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Loaded loaded = current.get();
+            if (loaded == null) {
+                reloadAll();
+            } else {
+                refreshDelta(loaded);
+            }
+        } catch (RuntimeException e) {
+            // 실패 시 기존 필터 유지 (적재 전이면 인덱스 조회로 응답)
+            log.warn("[userNameFilter] refresh failed. keep current filter.", e);
+        }
+    }
+
+    /** 주기적 전체 재적재 (크기 재조정 + 풀린 이름 정리) */
+    @Scheduled(cron = "${user.name-filter.full-reload-cron:0 30 * * * *}")
+    public void scheduledReload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reloadAll();
+        } catch (RuntimeException e) {
+            log.warn("[userNameFilter] full reload failed. keep current filter.", e);
+        }
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    private void refreshDelta(Loaded loaded) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = loaded.watermark().minusSeconds(overlapSeconds);
+
+        List<String> names = userRepository.findUserNamesCreatedSince(since, PageRequest.ofSize(maxDeltaSize + 1));
+        if (names.size() > maxDeltaSize) {
+            log.info("[userNameFilter] too many signups since {}. full reload.", loaded.watermark());
+            reloadAll();
+            return;
+        }
+        // 같은 필터에 추가만 하므로 교체 없이 watermark 만 전진
+        names.forEach(loaded.filter()::put);
+        current.set(new Loaded(loaded.filter(), now));
+    }
+
+    private void reloadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long expected = Math.max(minExpectedInsertions, userRepository.count() * 2);
+        UserNameBloomFilter filter = UserNameBloomFilter.create(expected, falsePositiveRate);
+
+        String after = "";
+        List<String> chunk;
+        do {
+            chunk = userRepository.findUserNamesAfter(after, PageRequest.ofSize(loadChunkSize));
+            chunk.forEach(filter::put);
+            if (!chunk.isEmpty()) {
+                after = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == loadChunkSize);
+
+        // 적재 도중 가입한 이름은 다음 증분 갱신(overlap 포함)에서 반영된다.
+        current.set(new Loaded(filter, startedAt));
+        log.info("[userNameFilter] full reload done. names={}, bits={}", filter.insertions(), filter.bitSize());
+    }
+
+    /** 필터 + 마지막 갱신 기준 시각 */
+    private record Loaded(UserNameBloomFilter filter, LocalDateTime watermark) {
+    }
+}
@@ -0,0 +1,86 @@
+package org.nextme.userservice.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 ID Bloom 필터 (사용 중인 user_name 집합)
+ *
+ * - mightContain == false 이면 "확실히 없음", true 이면 "있을 수도 있음" (인덱스로 확인 필요)
+ * - 비트 배열은 AtomicLongArray 라 조회와 추가가 동시에 일어나도 안전하다. (삭제는 지원하지 않음)
+ * - 해시: 64bit FNV-1a + SplitMix64 로 두 값을 만들고 h1 + i * h2 로 k 개 위치를 계산 (Kirsch-Mitzenmacher)
+ * - 크기: 예상 건수 n, 오탐률 p 기준 m = -n ln p / (ln 2)^2 비트, k = m / n * ln 2
+ */
+final class UserNameBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    private UserNameBloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    static UserNameBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, Math.min(bits, (long) Integer.MAX_VALUE * 64));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new UserNameBloomFilter(bits, hashes);
+    }
+
+    void put(String userName) {
+        long h1 = hash(userName);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << (bit & 63);
+            int index = (int) (bit >>> 6);
+            if ((words.get(index) & mask) == 0) {
+                words.getAndAccumulate(index, mask, (current, m) -> current | m);
+            }
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String userName) {
+        long h1 = hash(userName);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 지금까지 put 한 횟수 (같은 이름을 여러 번 넣으면 중복 집계) */
+    long insertions() {
+        return insertions.sum();
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /** SplitMix64 finalizer (FNV 의 하위 비트 편향 보정) */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
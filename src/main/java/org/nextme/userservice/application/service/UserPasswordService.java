@@ -1,28 +1,39 @@
 package org.nextme.userservice.application.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.nextme.infrastructure.exception.ApplicationException;
 import org.nextme.userservice.application.error.ErrorCode;
+import org.nextme.userservice.domain.AuditAction;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
 import org.nextme.userservice.domain.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 최초 설정 / 변경
+ *
+ * - BCrypt 해시/검증은 트랜잭션 밖에서 수행하고, 변경 반영만 짧은 트랜잭션으로 처리한다.
+ * - 읽은 시점과 반영 시점 사이에 유저가 바뀌었으면(version 불일치) 검증 결과를 믿을 수 없으므로
+ *   CONCURRENT_UPDATE_CONFLICT 로 실패시킨다.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogWriter auditLogWriter;
 
     /**
      * [소셜 + 비번 미설정] 유저의 "비밀번호 최초 설정"
      * - currentPassword 필요 없음
      * - 이미 설정된 유저가 호출하면 예외
      */
-    @Transactional
     public void setInitialPassword(UserId userId, String rawPassword) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> toAppException(ErrorCode.USER_NOT_FOUND));
@@ -32,14 +43,14 @@ public class UserPasswordService {
         }
 
         String encoded = passwordEncoder.encode(rawPassword);
-        user.initPassword(encoded); // JPA 변경 감지로 update
+        applyIfUnchanged(user, fresh -> fresh.initPassword(encoded));
+        auditLogWriter.record(AuditAction.PASSWORD_INITIALIZED, userId.getId(), null);
     }
 
     /**
      * [비밀번호 설정된] 유저의 "비밀번호 변경"
      * - currentPassword 검증 필수
      */
-    @Transactional
     public void changePassword(UserId userId, String currentRawPassword, String newRawPassword) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> toAppException(ErrorCode.USER_NOT_FOUND));
@@ -54,7 +65,22 @@ public class UserPasswordService {
         }
 
         String encoded = passwordEncoder.encode(newRawPassword);
-        user.changePassword(encoded);
+        applyIfUnchanged(user, fresh -> fresh.changePassword(encoded));
+        auditLogWriter.record(AuditAction.PASSWORD_CHANGED, userId.getId(), null);
+    }
+
+    /**
+     * 검증에 사용한 스냅샷(version)과 같을 때만 변경 반영 (짧은 쓰기 트랜잭션)
+     */
+    private void applyIfUnchanged(User checked, Consumer<User> change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User fresh = userRepository.findById(checked.getId())
+                    .orElseThrow(() -> toAppException(ErrorCode.USER_NOT_FOUND));
+            if (!fresh.getVersion().equals(checked.getVersion())) {
+                throw toAppException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+            }
+            change.accept(fresh);   // JPA 변경 감지로 update (version 검사 포함)
+        });
     }
 
     /**
@@ -3,17 +3,25 @@ package org.nextme.userservice.application.service;
 import lombok.RequiredArgsConstructor;
 import org.nextme.infrastructure.exception.ApplicationException;
 import org.nextme.infrastructure.exception.ErrorCode;
+import org.nextme.userservice.application.evnt.dto.UserPointChangedEvent;
+import org.nextme.userservice.domain.PointDailyRollup;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.PointDailyRollupRepository;
 import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserPointService {
     private final UserRepository userRepository;
+    private final PointDailyRollupRepository rollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void addPoint(UserId userId, Long amount) {
         User user = userRepository.findById(userId)
@@ -21,5 +29,18 @@ public class UserPointService {
 
         // 도메인 모델 내에 포인트 적립 로직 구현 권장 (user.addPoint(amount))
         user.addPoint(amount);
+
+        // 포인트 명세용 일별 집계 (프로모션 없는 직접 적립)
+        rollupRepository.accumulate(
+                userId.getId(),
+                LocalDate.now(),
+                PointDailyRollup.NO_PROMOTION,
+                null,
+                amount,
+                1L
+        );
+
+        // 커밋 이후 랭킹(Redis)에 반영
+        eventPublisher.publishEvent(new UserPointChangedEvent(userId.getId(), user.getPoint()));
     }
-}
\ No newline at end of file
+}
@@ -9,11 +9,14 @@ import org.nextme.userservice.application.error.ErrorCode;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
 import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.infrastructure.retry.RetryOnOptimisticLock;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * "내 프로필" 생성/조회/수정/비활성화 유스케이스 서비스
+ *
+ * - 수정 메서드는 모두 멱등이므로 낙관적 락 충돌 시 자동 재시도 (@RetryOnOptimisticLock)
  */
 @Service
 @RequiredArgsConstructor
@@ -33,14 +36,37 @@ public class UserProfileService {
                 });
     }
 
+    /**
+     * 수정용 조회
+     * - 프로필 변경은 p_user_profile 만 바뀌므로 User.version 을 강제로 올려
+     *   같은 유저에 대한 다른 수정과 충돌을 감지한다.
+     */
+    private User getUserForUpdateOrThrow(UserId userId) {
+        return userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> {
+                    ErrorCode e = ErrorCode.USER_NOT_FOUND;
+                    return new ApplicationException(
+                            e.getHttpStatus(),
+                            e.getCode(),
+                            e.getDefaultMessage()
+                    );
+                });
+    }
+
     /**
      * 내 프로필 조회
      * - 프로필이 없으면 PROFILE_NOT_FOUND 에러
      */
     @Transactional(readOnly = true)
     public UserProfileResponse getMyProfile(UserId userId) {
-        User user = getUserOrThrow(userId);
+        return toMyProfileResponse(getUserOrThrow(userId));
+    }
 
+    /**
+     * 이미 읽은 유저로 내 프로필 응답 생성 (UserETagService.load 용)
+     * - 프로필이 없으면 PROFILE_NOT_FOUND 에러
+     */
+    public UserProfileResponse toMyProfileResponse(User user) {
         if (user.getProfile() == null) {
             ErrorCode e = ErrorCode.PROFILE_NOT_FOUND;
             throw new ApplicationException(
@@ -57,6 +83,7 @@ public class UserProfileService {
      * 프로필 최초 생성
      * - 이미 있으면 PROFILE_ALREADY_EXISTS 에러 (도메인에서 처리)
      */
+    @RetryOnOptimisticLock
     @Transactional
     public void createMyProfile(UserId userId, UserProfileRequest request) {
         User user = getUserOrThrow(userId);
@@ -75,9 +102,10 @@ public class UserProfileService {
      * 프로필 수정
      * - 없으면 PROFILE_NOT_FOUND 에러 (도메인에서 처리)
      */
+    @RetryOnOptimisticLock
     @Transactional
     public void updateMyProfile(UserId userId, UserProfileRequest request) {
-        User user = getUserOrThrow(userId);
+        User user = getUserForUpdateOrThrow(userId);
 
         user.updateProfile(
                 request.mainCategory(),
@@ -91,15 +119,17 @@ public class UserProfileService {
      * 프로필 비활성화 (삭제 대신 비노출 처리)
      * - 없으면 PROFILE_NOT_FOUND 에러
      */
+    @RetryOnOptimisticLock
     @Transactional
     public void deactivateMyProfile(UserId userId) {
-        User user = getUserOrThrow(userId);
+        User user = getUserForUpdateOrThrow(userId);
         user.deactivateProfile();
     }
 
     /**
      * 로그인한 유저의 이름 / 슬랙 ID 수정
      */
+    @RetryOnOptimisticLock
     @Transactional
     public void updateMyInfo(UserId userId, UpdateMyInfoRequest request) {
         User user = getUserOrThrow(userId);
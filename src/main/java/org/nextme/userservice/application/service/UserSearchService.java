@@ -4,11 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.nextme.infrastructure.exception.ApplicationException;
 import org.nextme.infrastructure.exception.ErrorCode;
 import org.nextme.infrastructure.success.CustomResponse;
+import org.nextme.userservice.application.dto.AdminUserResponse;
+import org.nextme.userservice.application.dto.AdminUserSearchResponse;
 import org.nextme.userservice.application.dto.UserFeignResponse;
 import org.nextme.userservice.application.dto.UserResponse;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.repository.AdminUserField;
+import org.nextme.userservice.domain.repository.AdminUserRow;
+import org.nextme.userservice.domain.repository.AdminUserSearchCondition;
+import org.nextme.userservice.domain.repository.AdminUserSearchRepository;
 import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,7 +25,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 유저 조회 관련 읽기 전용 서비스
@@ -27,7 +41,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserSearchService {
 
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_ESTIMATES = 1000;
+    private static final String CURSOR_DELIMITER = "|";
+
     private final UserRepository userRepository;
+    private final AdminUserSearchRepository adminUserSearchRepository;
+
+    /** 검색 조건별 추정 건수 캐시 */
+    private final Map<AdminUserSearchCondition, CachedEstimate> estimateCache = new ConcurrentHashMap<>();
+
+    /** 추정 건수 캐시 유지 시간 (초) */
+    @Value("${user.admin-search.count-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
 
     /**
      * 로그인한 유저의 "내 프로필" 조회
@@ -51,10 +77,107 @@ public class UserSearchService {
         return UserFeignResponse.from(user);
     }
 
-    /** 전체 유저 조회 (페이징 적용) */
+    /**
+     * 전체 유저 조회 (페이징 적용)
+     * - 페이지마다 count(*) + OFFSET 이 실행되므로 깊은 페이지일수록 느리다. 관리자 화면은 searchUsers 사용
+     */
     @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable) // Page<User> 반환
                 .map(UserResponse::from);      // 엔티티를 DTO로 변환
     }
+
+    // ==========================
+    //  관리자 유저 검색 (keyset + 추정 건수)
+    // ==========================
+
+    /**
+     * 상태 / 역할 / 어드바이저 상태 / 로그인 ID·이름 앞부분으로 유저 검색 (가입일 최신순)
+     *
+     * - fields: 응답에 담을 필드 (예: "userName,status"). 요청한 컬럼만 SELECT 하고 JSON 에도 그 필드만 내려준다.
+     * - cursor: 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * - OFFSET 이 없으므로 몇 번째 페이지든 조회 비용이 같다.
+     * - estimatedTotal 은 조건별로 잠시 캐시한 플래너 추정치 (정확한 count 를 매번 실행하지 않음)
+     * - 트랜잭션을 열지 않는다. (검색 SELECT 1회 + 캐시 미스 시 EXPLAIN 1회, 각각 단독 실행)
+     */
+    public AdminUserSearchResponse searchUsers(
+            AdminUserSearchCondition condition,
+            String fields,
+            String cursor,
+            int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_ADMIN_PAGE_SIZE);
+        Set<AdminUserField> responseFields = ResponseFields.parse(fields, AdminUserField.class, AdminUserField::jsonName);
+
+        LocalDateTime afterCreatedAt = null;
+        UUID afterUserId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            afterCreatedAt = LocalDateTime.parse(decoded[0]);
+            afterUserId = UUID.fromString(decoded[1]);
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<AdminUserRow> rows = adminUserSearchRepository.search(
+                condition, responseFields, afterCreatedAt, afterUserId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<AdminUserRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new AdminUserSearchResponse(
+                page.stream().map(row -> AdminUserResponse.from(row, responseFields)).toList(),
+                nextCursor,
+                hasNext,
+                estimatedTotal(condition)
+        );
+    }
+
+    /** 조건별 추정 건수 (countCacheTtlSeconds 동안 재사용) */
+    private Long estimatedTotal(AdminUserSearchCondition condition) {
+        long now = System.currentTimeMillis();
+        CachedEstimate cached = estimateCache.get(condition);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.value();
+        }
+        Long estimate = adminUserSearchRepository.estimateCount(condition);
+        if (estimateCache.size() >= MAX_CACHED_ESTIMATES) {
+            estimateCache.clear();   // 조건 조합이 계속 늘어나는 경우 단순히 비운다.
+        }
+        estimateCache.put(condition, new CachedEstimate(estimate, now + countCacheTtlSeconds * 1000));
+        return estimate;
+    }
+
+    /** 커서 = Base64URL("가입일시|userId") */
+    private String encodeCursor(AdminUserRow last) {
+        String raw = last.createdAt() + CURSOR_DELIMITER + last.userId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            // 형식 검증
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw toAppException(org.nextme.userservice.application.error.ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     * (이 클래스는 공통 ErrorCode 를 import 하고 있으므로 전체 이름으로 받는다.)
+     */
+    private ApplicationException toAppException(org.nextme.userservice.application.error.ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+
+    private record CachedEstimate(Long value, long expiresAtMillis) {
+    }
 }
\ No newline at end of file
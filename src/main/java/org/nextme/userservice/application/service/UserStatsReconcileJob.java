@@ -0,0 +1,74 @@
+package org.nextme.userservice.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.userservice.infrastructure.cache.RedisUserStats;
+import org.nextme.userservice.infrastructure.lock.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 대시보드 유저 통계 재계산 잡
+ *
+ * - Redis 리더 락을 잡은 레플리카 한 곳에서만 실행
+ * - check-fixed-delay-ms 마다 재계산이 필요한지(벌크 변경 표시 / 통계 없음) 확인해 필요할 때만 실행
+ * - reconcile-cron 주기로는 무조건 실행해 증분 반영 중 생긴 차이(Redis 장애 등)를 맞춘다.
+ *
+ * 메트릭
+ * - user.stats.reconcile : 재계산 소요 시간
+ */
+@Slf4j
+@Component
+public class UserStatsReconcileJob {
+
+    private static final String JOB_NAME = "user-stats-reconcile";
+
+    private final UserStatsService userStatsService;
+    private final RedisUserStats userStats;
+    private final RedisJobLock jobLock;
+    private final Timer reconcileTimer;
+
+    @Value("${user.stats.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    public UserStatsReconcileJob(
+            UserStatsService userStatsService,
+            RedisUserStats userStats,
+            RedisJobLock jobLock,
+            MeterRegistry meterRegistry
+    ) {
+        this.userStatsService = userStatsService;
+        this.userStats = userStats;
+        this.jobLock = jobLock;
+        this.reconcileTimer = meterRegistry.timer("user.stats.reconcile");
+    }
+
+    @Scheduled(fixedDelayString = "${user.stats.check-fixed-delay-ms:30000}")
+    public void reconcileIfNeeded() {
+        try {
+            if (userStats.needsReconcile()) {
+                run();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[userStats] reconcile check failed. cause={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${user.stats.reconcile-cron:0 15 * * * *}")
+    public void run() {
+        Optional<RedisJobLock.JobLease> acquired = jobLock.tryAcquire(JOB_NAME, Duration.ofMillis(lockTtlMs));
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (RedisJobLock.JobLease lease = acquired.get()) {
+            reconcileTimer.record(userStatsService::reconcile);
+            log.info("[userStats] reconciled.");
+        }
+    }
+}
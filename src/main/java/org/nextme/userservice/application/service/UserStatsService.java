@@ -0,0 +1,114 @@
+package org.nextme.userservice.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.userservice.application.dto.UserStatsResponse;
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.nextme.userservice.domain.repository.UserSignupCount;
+import org.nextme.userservice.domain.repository.UserStatsCount;
+import org.nextme.userservice.infrastructure.cache.RedisUserStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 관리자 대시보드 유저 통계
+ *
+ * - 조회: Redis hash 2개만 읽는다. (유저 수와 무관하게 일정, p_user 를 읽지 않음)
+ * - 증분: User 엔티티 변경마다 UserStatsHibernateListener 가 커밋 후 반영
+ * - 재계산(reconcile): p_user 집계 1회 + 최근 signup-days 일 가입 수로 통째로 교체
+ *   (벌크 변경 이후, 그리고 주기적으로 UserStatsReconcileJob 이 호출)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserRepository userRepository;
+    private final RedisUserStats userStats;
+
+    @Value("${user.stats.signup-days:90}")
+    private int signupDays;
+
+    public UserStatsResponse getStats(int days) {
+        int range = Math.max(1, Math.min(days, signupDays));
+        Map<String, String> counts = userStats.readCounts();
+
+        LocalDate today = LocalDate.now();
+        List<String> dayKeys = new ArrayList<>(range);
+        for (int i = range - 1; i >= 0; i--) {
+            dayKeys.add(today.minusDays(i).toString());
+        }
+        List<String> signups = userStats.readSignups(dayKeys);
+        Map<LocalDate, Long> signupsPerDay = new LinkedHashMap<>();
+        for (int i = 0; i < dayKeys.size(); i++) {
+            signupsPerDay.put(LocalDate.parse(dayKeys.get(i)), toLong(signups.get(i)));
+        }
+
+        String reconciledAt = counts.get(RedisUserStats.RECONCILED_AT);
+        return new UserStatsResponse(
+                toLong(counts.get(RedisUserStats.TOTAL)),
+                byValue(counts, UserRole.values(), role -> RedisUserStats.roleField(role.name())),
+                byValue(counts, UserStatus.values(), status -> RedisUserStats.statusField(status.name())),
+                byValue(counts, AdvisorStatus.values(), status -> RedisUserStats.advisorStatusField(status.name())),
+                signupsPerDay,
+                reconciledAt == null ? null : LocalDateTime.parse(reconciledAt)
+        );
+    }
+
+    /**
+     * p_user 기준으로 통계 재계산 후 교체
+     * - 재계산 중 커밋된 증분은 교체에 덮일 수 있으나 다음 재계산에서 다시 맞춰진다.
+     */
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        userStats.clearDirty();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, String> counts = new HashMap<>();
+        counts.put(RedisUserStats.TOTAL, "0");
+        for (UserStatsCount count : userRepository.countStats()) {
+            counts.put(fieldOf(count), String.valueOf(count.getCount()));
+        }
+        counts.put(RedisUserStats.RECONCILED_AT, now.toString());
+
+        Map<String, String> signups = new HashMap<>();
+        LocalDateTime since = now.toLocalDate().minusDays(signupDays - 1L).atStartOfDay();
+        for (UserSignupCount signup : userRepository.countSignupsSince(since)) {
+            signups.put(signup.getDay(), String.valueOf(signup.getCount()));
+        }
+
+        userStats.replace(counts, signups);
+    }
+
+    private String fieldOf(UserStatsCount count) {
+        return switch (count.getDimension()) {
+            case "role" -> RedisUserStats.roleField(count.getValue());
+            case "status" -> RedisUserStats.statusField(count.getValue());
+            case "advisorStatus" -> RedisUserStats.advisorStatusField(count.getValue());
+            default -> RedisUserStats.TOTAL;
+        };
+    }
+
+    private <E extends Enum<E>> Map<String, Long> byValue(Map<String, String> counts, E[] values, Function<E, String> field) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (E value : values) {
+            result.put(value.name(), toLong(counts.get(field.apply(value))));
+        }
+        return result;
+    }
+
+    private long toLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
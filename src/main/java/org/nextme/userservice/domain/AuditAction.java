@@ -0,0 +1,16 @@
+package org.nextme.userservice.domain;
+
+/**
+ * 감사 로그에 남기는 작업 종류 (p_audit_log.action)
+ */
+public enum AuditAction {
+    ADVISOR_APPROVED,
+    ADVISOR_REJECTED,
+    PASSWORD_INITIALIZED,
+    PASSWORD_CHANGED,
+    LOGOUT,
+    USER_ARCHIVED,
+    USER_RESTORED,
+    STATUS_CHANGED,
+    ROLE_CHANGED
+}
@@ -0,0 +1,69 @@
+package org.nextme.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PointDailyRollup
+ * - (유저, 일자, 프로모션) 단위로 미리 집계해 둔 포인트 적립 내역
+ * - 적립 이벤트가 반영되는 같은 트랜잭션에서 upsert 로 누적된다. (PointDailyRollupRepository.accumulate)
+ * - 포인트 명세 조회는 원본 적립 이벤트가 아닌 이 집계 행만 읽는다.
+ */
+@Getter
+@Entity
+@ToString
+@Table(
+        name = "p_point_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_point_daily_rollup",
+                columnNames = {"user_id", "rollup_date", "promotion_id"}
+        ),
+        indexes = @Index(name = "idx_point_daily_rollup_user_date", columnList = "user_id, rollup_date")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointDailyRollup {
+
+    /**
+     * 프로모션과 무관한 적립(직접 적립 등)에 사용하는 promotion_id
+     * - unique 제약에서 null 은 서로 다른 값으로 취급되므로 null 대신 nil UUID 를 저장한다.
+     */
+    public static final UUID NO_PROMOTION = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "promotion_id", nullable = false)
+    private UUID promotionId;
+
+    @Column(name = "promotion_name", length = 100)
+    private String promotionName;
+
+    /** 해당 일자/프로모션으로 적립된 포인트 합계 */
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    /** 해당 일자/프로모션 적립 건수 */
+    @Column(name = "earn_count", nullable = false)
+    private Long earnCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isPromotion() {
+        return !NO_PROMOTION.equals(promotionId);
+    }
+}
@@ -0,0 +1,90 @@
+package org.nextme.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PointLedgerEntry
+ * - 만료 대상 포인트(프로모션 적립분) 원장
+ * - (유저, 적립일, 프로모션) 단위로 한 행을 적재하고, 만료 시각이 지나면 남은 포인트(remaining)를 소멸시킨다.
+ * - 만료 처리는 PointExpirationJob 이 청크 단위(SKIP LOCKED)로 수행한다.
+ * - 포인트를 사용하면 만료 시각이 이른 행부터 remaining 을 줄이고(consume), 예약이 해제되면 되돌린다(restore).
+ */
+@Getter
+@Entity
+@ToString
+@Table(name = "p_point_ledger")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "promotion_id")
+    private UUID promotionId;
+
+    /** 최초 적립 포인트 */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    /** 아직 사용/만료되지 않은 잔여 포인트 (만료 처리 시 0) */
+    @Column(name = "remaining", nullable = false)
+    private Long remaining;
+
+    @Column(name = "earned_at", nullable = false)
+    private LocalDateTime earnedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** 만료 처리된 시각 (미처리 null) */
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt;
+
+    /** 만료 처리 시 유저 포인트에서 실제로 차감된 양 (미처리 null) */
+    @Column(name = "expired_amount")
+    private Long expiredAmount;
+
+    private PointLedgerEntry(
+            UUID userId,
+            UUID promotionId,
+            Long amount,
+            LocalDateTime earnedAt,
+            LocalDateTime expiresAt
+    ) {
+        this.userId = userId;
+        this.promotionId = promotionId;
+        this.amount = amount;
+        this.remaining = amount;
+        this.earnedAt = earnedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static PointLedgerEntry earned(
+            UUID userId,
+            UUID promotionId,
+            Long amount,
+            LocalDateTime earnedAt,
+            LocalDateTime expiresAt
+    ) {
+        return new PointLedgerEntry(userId, promotionId, amount, earnedAt, expiresAt);
+    }
+
+    /**
+     * 사용했던 포인트 되돌리기 (예약 해제)
+     * - 이미 만료 처리된 행이라도 되돌린다. (만료 시각이 지났으므로 다음 만료 잡에서 다시 소멸)
+     */
+    public void restore(long amount) {
+        this.remaining += amount;
+    }
+}
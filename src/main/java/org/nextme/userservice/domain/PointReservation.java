@@ -0,0 +1,63 @@
+package org.nextme.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PointReservation
+ * - 결제(상담 예약 등) 확정 전까지 포인트를 미리 차감해 두는 예약(hold)
+ * - 예약 시점에 p_user.point 에서 이미 차감되며,
+ *   확정(CONFIRMED)되면 그대로 소진, 취소/만료(RELEASED)되면 환불한다.
+ * - 상태 전이는 모두 "현재 상태 조건부 UPDATE" 로만 수행한다. (PointReservationRepository)
+ */
+@Getter
+@Entity
+@ToString
+@Table(name = "p_point_reservation")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "reservation_id")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PointReservationStatus status;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+
+    /** 이 시각까지 확정되지 않으면 자동 해제(환불) */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** 확정/해제 시각 */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    private PointReservation(UUID userId, Long amount, LocalDateTime reservedAt, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.amount = amount;
+        this.status = PointReservationStatus.RESERVED;
+        this.reservedAt = reservedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static PointReservation reserve(UUID userId, Long amount, LocalDateTime now, LocalDateTime expiresAt) {
+        return new PointReservation(userId, amount, now, expiresAt);
+    }
+}
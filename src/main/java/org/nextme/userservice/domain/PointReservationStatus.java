@@ -0,0 +1,7 @@
+package org.nextme.userservice.domain;
+
+public enum PointReservationStatus {
+    RESERVED,
+    CONFIRMED,
+    RELEASED
+}
@@ -0,0 +1,45 @@
+package org.nextme.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * PointReservationUsage
+ * - 예약 한 건이 만료 원장(p_point_ledger) 행에서 차감한 양
+ * - 예약이 해제(환불)되면 이 기록대로 같은 원장 행의 remaining 을 되돌린다.
+ */
+@Getter
+@Entity
+@ToString
+@Table(name = "p_point_reservation_usage")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointReservationUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false)
+    private UUID reservationId;
+
+    @Column(name = "ledger_id", nullable = false)
+    private Long ledgerId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    private PointReservationUsage(UUID reservationId, Long ledgerId, Long amount) {
+        this.reservationId = reservationId;
+        this.ledgerId = ledgerId;
+        this.amount = amount;
+    }
+
+    public static PointReservationUsage of(UUID reservationId, Long ledgerId, Long amount) {
+        return new PointReservationUsage(reservationId, ledgerId, amount);
+    }
+}
@@ -1,17 +1,38 @@
 package org.nextme.userservice.domain;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.*;
 import lombok.*;
 
-@ToString
+/**
+ * SocialAccount
+ * - 유저에 연결된 소셜 계정 (카카오/구글/네이버)
+ * - User 의 자식 엔티티 (N:1), 자체 PK(id) 를 가진다.
+ * - 같은 소셜 계정(provider + providerUserId)은 한 유저에게만 연결될 수 있다. (유니크 제약)
+ * - 연결/해제는 User.addSocialAccount / removeSocialAccount 로만 수행한다.
+ *   (행 단위 INSERT / DELETE 만 발생, 다른 소셜 계정 행은 건드리지 않음)
+ */
+@ToString(exclude = "user")
 @Getter
-@Embeddable
+@Entity
+@Table(
+        name = "social_account",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_social_account_provider_user",
+                columnNames = {"provider", "provider_user_id"}
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SocialAccount {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "provider", nullable = false, length = 20)
     private SocialProvider provider;
@@ -37,22 +58,20 @@ public class SocialAccount {
                 .build();
     }
 
+    /** 연결 대상 유저 지정 (User.addSocialAccount 에서만 호출) */
+    void linkTo(User user) {
+        this.user = user;
+    }
+
     /**
      * equals() / hashCode() 목적:
      *
-     * SocialAccount는 @Embeddable 값 객체(Value Object)
-     * 값 객체는 '값 자체가 같으면 같은 객체'로 판단해야 하므로
-     * 동등성 비교(equality)를 명시적으로 정의해야 함
-     *
-     * 특히 @ElementCollection(Set)에서 값 객체를 관리할 때
-     * JPA는 equals/hashCode를 이용하여:
-     *   - 중복 여부 판단
-     *   - 삭제/추가 변경 감지(dirty checking)
-     *   - 컬렉션 동작(Set 중복 제거)
+     * SocialAccount 는 (provider + providerUserId) 가 바뀌지 않는 자연 키이므로
+     * DB id 가 아직 없는(저장 전) 상태에서도 같은 소셜 계정인지 판단할 수 있도록
+     * 자연 키 기준으로 동등성 비교(equality)를 정의함
      *
-     * 만약 equals/hashCode를 구현하지 않으면
-     * 같은 소셜 계정(provider + providerUserId가 동일)이라도
-     * 서로 다른 객체로 인식되어 중복 저장/변경 감지가 불가능해짐
+     * User.removeSocialAccount(SocialAccount.of(...)) 처럼
+     * 새로 만든 객체로도 연결된 계정을 찾아 해제할 수 있다.
      */
 
     @Override
@@ -5,28 +5,39 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
 import org.nextme.common.jpa.BaseEntity;
+import org.nextme.userservice.infrastructure.persistence.UserVersionStampEntityListener;
 import org.nextme.infrastructure.exception.ApplicationException;
 import org.nextme.userservice.application.error.ErrorCode;
 import org.springframework.http.HttpStatus;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * User
  * - 서비스 내 "회원"을 나타내는 Aggregate Root
  * - 소셜 로그인/일반 회원 모두 이 엔티티로 관리
- * - 소셜 계정은 SocialAccount 값 객체 컬렉션(@ElementCollection)으로 관리
- * - 프로필(UserProfile)은 @Embedded 값 객체로 관리
+ * - 소셜 계정은 SocialAccount 자식 엔티티(1:N, social_account 테이블)로 관리
+ * - 프로필(UserProfile)은 별도 테이블(p_user_profile) 엔티티로, 1:1 지연 로딩
  */
 @Getter
 @Entity
-@Table(name = "p_user")
+@EntityListeners(UserVersionStampEntityListener.class)
+@Table(
+        name = "p_user",
+        uniqueConstraints = @UniqueConstraint(name = User.USER_NAME_CONSTRAINT, columnNames = "user_name")
+)
 @ToString(exclude = {"socialAccounts", "profile"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
+    /** user_name 유니크 제약 이름 (V1_1 / V18 과 동일, 가입 중복 판별에 사용) */
+    public static final String USER_NAME_CONSTRAINT = "uk_user_user_name";
+
     // UUID 기반 식별자 (EmbeddedId)
     @EmbeddedId
     private UserId id;
@@ -36,7 +47,7 @@ public class User extends BaseEntity {
      * - 카카오/구글 ID 그대로 쓰지 않음
      * - 소셜 회원은 최초 로그인 시 자동 생성 (ex. kakao_123abc)
      */
-    @Column(name = "user_name", nullable = false, length = 25, unique = true)
+    @Column(name = "user_name", nullable = false, length = 25)
     private String userName;
 
     /**
@@ -90,6 +101,14 @@ public class User extends BaseEntity {
     @Column(name = "advisor_status", nullable = false, length = 20)
     private AdvisorStatus advisorStatus;
 
+    /**
+     * 어드바이저 신청(PENDING 전환) 시각
+     * - 신청 대기열 정렬/커서 기준 (partial index: idx_user_advisor_pending)
+     * - 신청 이력이 없으면 null
+     */
+    @Column(name = "advisor_requested_at")
+    private LocalDateTime advisorRequestedAt;
+
     /**
      * 비밀번호가 사용자가 직접 설정한 상태인지 여부
      * - 로컬 회원가입: true
@@ -113,27 +132,52 @@ public class User extends BaseEntity {
     @Column(name = "point", nullable = false)
     private Long point = 0L;
 
+    /**
+     * 낙관적 락 버전
+     * - 동시 수정(프로필 수정 / 어드바이저 승인 / 포인트 적립 등)이 서로를 덮어쓰지 않도록 UPDATE 시 검사
+     * - 벌크 UPDATE(포인트 적립/차감, 일괄 승인)도 version 을 함께 올린다. (UserRepository)
+     * - 신규 엔티티 판별을 위해 wrapper 타입 사용 (persist 전 null)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * 마지막 로그인 시각 / 누적 로그인 횟수 (휴면 계정 집계용)
+     * - LoginActivityRecorder 가 메모리에 모았다가 배치 UPDATE 로만 기록한다.
+     * - 엔티티 수정 시 옛 값으로 덮어쓰지 않도록 insertable/updatable = false (version 도 올리지 않음)
+     */
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+
+    @ColumnDefault("0")
+    @Column(name = "login_count", nullable = false, insertable = false, updatable = false)
+    private Long loginCount;
+
     // ===== 소셜 계정 컬렉션 =====
 
     /**
      * 소셜 계정 목록
      * - 한 유저가 여러 소셜 계정을 연결할 수 있음 (카카오 + 구글 등)
-     * - SocialAccount는 값 객체(@Embeddable)이고, 별도 테이블(social_account)에 저장됨
+     * - SocialAccount 가 FK(user_id) 를 가지는 자식 엔티티 (mappedBy)
+     * - List(bag) + mappedBy 이므로 연결(add) 시 컬렉션을 로딩하지 않고 INSERT 1건만 발생한다.
+     *   (중복 연결은 (provider, provider_user_id) 유니크 제약으로 막는다)
+     * - 연결/해제는 p_user 행을 바꾸지 않으므로 @Version 을 올리지 않는다. (추가 UPDATE 없음)
      */
-    @ElementCollection
-    @CollectionTable(
-            name = "social_account",
-            joinColumns = @JoinColumn(name = "user_id")
-    )
-    private Set<SocialAccount> socialAccounts = new HashSet<>();
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
+    private List<SocialAccount> socialAccounts = new ArrayList<>();
 
-    // ===== 프로필 (임베디드 값 객체) =====
+    // ===== 프로필 (1:1, 별도 테이블) =====
 
     /**
      * 유저의 프로필 정보
      * - null 일 수 있음 (아직 프로필을 작성하지 않은 경우)
+     * - p_user 에는 FK(profile_id) 만 두고 소개/카테고리 등은 p_user_profile 에 저장
+     * - 외래키를 User 쪽이 가지므로 LAZY 프록시가 실제로 동작한다. (프로필을 읽지 않는 경로는 조인/추가 조회 없음)
      */
-    @Embedded
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "profile_id", referencedColumnName = "user_id")
     private UserProfile profile;
 
     // ===== 생성자 (외부에서 new 불가, 팩토리 메서드로만 생성) =====
@@ -184,6 +228,35 @@ public class User extends BaseEntity {
         return user;
     }
 
+    /**
+     * 일괄 가져오기(import)로 생성하는 로컬 회원
+     * - encodedPassword: 가져온 비밀번호 해시, 또는 비밀번호가 없는 행이면 로그인 불가한 임의 해시
+     * - passwordInitialized: 비밀번호가 없는 행은 false (사용자가 "비밀번호 최초 설정"으로 지정)
+     */
+    public static User createImportedUser(
+            UserId id,
+            String userName,
+            String encodedPassword,
+            boolean passwordInitialized,
+            String name,
+            String slackId,
+            String email
+    ) {
+        User user = new User(
+                id,
+                userName,
+                encodedPassword,
+                UserRole.USER,
+                name,
+                slackId,
+                UserStatus.ACTIVE,
+                AdvisorStatus.NOT_REQUESTED
+        );
+        user.passwordInitialized = passwordInitialized;
+        user.email = email;
+        return user;
+    }
+
     public static User createWithSocial(
             UserId id,
             String name,
@@ -213,9 +286,11 @@ public class User extends BaseEntity {
     // ==========================
 
     public void addSocialAccount(SocialAccount socialAccount) {
+        socialAccount.linkTo(this);
         this.socialAccounts.add(socialAccount);
     }
 
+    /** 소셜 계정 연결 해제 (orphanRemoval 로 해당 행만 DELETE) */
     public void removeSocialAccount(SocialAccount socialAccount) {
         this.socialAccounts.remove(socialAccount);
     }
@@ -265,6 +340,9 @@ public class User extends BaseEntity {
 
     /** 어드바이저 상태 변경 (심사 로직에서 사용) */
     public void changeAdvisorStatus(AdvisorStatus advisorStatus) {
+        if (advisorStatus == AdvisorStatus.PENDING && this.advisorStatus != AdvisorStatus.PENDING) {
+            this.advisorRequestedAt = LocalDateTime.now();
+        }
         this.advisorStatus = advisorStatus;
     }
 
@@ -290,7 +368,7 @@ public class User extends BaseEntity {
                     e.getDefaultMessage()
             );
         }
-        this.profile = UserProfile.of(mainCategory, intro, careerYears, isActive);
+        this.profile = UserProfile.of(UserId.of(this.id.getId()), mainCategory, intro, careerYears, isActive);
     }
 
     /**
@@ -311,7 +389,7 @@ public class User extends BaseEntity {
                     e.getDefaultMessage()
             );
         }
-        this.profile = UserProfile.of(mainCategory, intro, careerYears, isActive);
+        this.profile.update(mainCategory, intro, careerYears, isActive);
     }
 
     /**
@@ -327,12 +405,7 @@ public class User extends BaseEntity {
                     e.getDefaultMessage()
             );
         }
-        this.profile = UserProfile.of(
-                this.profile.getMainCategory(),
-                this.profile.getIntro(),
-                this.profile.getCareerYears(),
-                false      // active → false
-        );
+        this.profile.deactivate();
     }
 
     /**
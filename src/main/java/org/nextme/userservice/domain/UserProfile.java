@@ -1,40 +1,55 @@
 package org.nextme.userservice.domain;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.nextme.common.jpa.BaseEntity;
+import org.nextme.userservice.infrastructure.persistence.UserVersionStampEntityListener;
 
 /**
  * UserProfile
- * - 유저의 프로필 정보(전문 카테고리, 소개, 경력 연차, 프로필 공개 여부)를 담는 값 객체
- * - User 엔티티에 @Embedded 로 포함된다.
- * - 생성/수정 로직의 "트리거"는 항상 User 엔티티에서만 수행하도록 한다.
+ * - 유저의 프로필 정보(전문 카테고리, 소개, 경력 연차, 프로필 공개 여부)를 담는 엔티티
+ * - p_user 와 분리된 p_user_profile 테이블에 저장한다. (PK = 유저의 user_id)
+ *   인증/feign 조회/포인트 갱신처럼 프로필을 읽지 않는 경로에서 p_user 행이 좁아지도록 분리
+ * - User 가 지연 로딩(@OneToOne LAZY)으로 소유하며,
+ *   생성/수정 로직의 "트리거"는 항상 User 엔티티에서만 수행하도록 한다.
  */
 @Getter
-@Embeddable
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@EntityListeners(UserVersionStampEntityListener.class)
+@Table(name = "p_user_profile")
 @ToString
-public class UserProfile {
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserProfile extends BaseEntity {
+
+    /**
+     * 프로필 주인의 userId (1:1 이므로 유저 ID 를 그대로 PK 로 사용)
+     */
+    @EmbeddedId
+    private UserId id;
 
     /**
      * 주요 카테고리 (예: "주식", "부동산", "연금" 등)
      */
-    @Column(name = "profile_main_category", length = 50)
+    @Column(name = "main_category", length = 50)
     private String mainCategory;
 
     /**
      * 자기 소개 (간단한 소개/한 줄 소개 등)
      */
-    @Column(name = "profile_intro", length = 500)
+    @Column(name = "intro", length = 500)
     private String intro;
 
     /**
      * 경력 연차 (예: 3년, 5년 등)
      */
-    @Column(name = "profile_career_years")
+    @Column(name = "career_years")
     private Integer careerYears;
 
     /**
@@ -42,17 +57,19 @@ public class UserProfile {
      * - true: 공개 (상담 리스트 등에서 노출 가능)
      * - false: 비공개
      */
-    @Column(name = "profile_active")
+    @Column(name = "active")
     private Boolean active;
 
     // ===== 내부 생성자 (외부에서 직접 new 금지) =====
 
     private UserProfile(
+            UserId id,
             String mainCategory,
             String intro,
             Integer careerYears,
             boolean active
     ) {
+        this.id = id;
         this.mainCategory = mainCategory;
         this.intro = intro;
         this.careerYears = careerYears;
@@ -61,14 +78,28 @@ public class UserProfile {
 
     /**
      * 새 프로필 생성용 팩토리 메서드
-     * - 실제로는 User 엔티티의 createProfile/updateProfile 에서만 호출되게 사용하는 것을 권장
+     * - 실제로는 User 엔티티의 createProfile 에서만 호출되게 사용하는 것을 권장
      */
     public static UserProfile of(
+            UserId userId,
             String mainCategory,
             String intro,
             Integer careerYears,
             boolean active
     ) {
-        return new UserProfile(mainCategory, intro, careerYears, active);
+        return new UserProfile(userId, mainCategory, intro, careerYears, active);
+    }
+
+    /** 프로필 내용 변경 (User.updateProfile 에서 호출) */
+    void update(String mainCategory, String intro, Integer careerYears, boolean active) {
+        this.mainCategory = mainCategory;
+        this.intro = intro;
+        this.careerYears = careerYears;
+        this.active = active;
+    }
+
+    /** 비공개 전환 (User.deactivateProfile 에서 호출) */
+    void deactivate() {
+        this.active = false;
     }
 }
@@ -0,0 +1,34 @@
+package org.nextme.userservice.domain.repository;
+
+/**
+ * 관리자 유저 검색 응답 필드 (fields 파라미터)
+ *
+ * - 요청한 필드의 컬럼만 SELECT 하고, 응답 JSON 에도 그 필드만 내려준다.
+ * - user_id / created_at 은 keyset 커서 계산에 필요하므로 요청과 무관하게 항상 조회한다. (JSON 에는 요청 시에만)
+ */
+public enum AdminUserField {
+
+    USER_ID("userId", "user_id"),
+    USER_NAME("userName", "user_name"),
+    NAME("name", "name"),
+    ROLE("role", "role"),
+    STATUS("status", "status"),
+    ADVISOR_STATUS("advisorStatus", "advisor_status"),
+    CREATED_AT("createdAt", "created_at");
+
+    private final String jsonName;
+    private final String column;
+
+    AdminUserField(String jsonName, String column) {
+        this.jsonName = jsonName;
+        this.column = column;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public String column() {
+        return column;
+    }
+}
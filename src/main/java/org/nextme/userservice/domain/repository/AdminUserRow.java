@@ -0,0 +1,23 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 관리자 유저 검색 결과 1행 (필요한 컬럼만 조회)
+ * - userId / createdAt 은 항상 채워지고, 나머지는 요청한 필드(AdminUserField)만 채워진다.
+ */
+public record AdminUserRow(
+        UUID userId,
+        String userName,
+        String name,
+        UserRole role,
+        UserStatus status,
+        AdvisorStatus advisorStatus,
+        LocalDateTime createdAt
+) {
+}
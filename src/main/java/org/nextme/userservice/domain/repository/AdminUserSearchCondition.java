@@ -0,0 +1,29 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+
+/**
+ * 관리자 유저 검색 조건 (null 인 조건은 적용하지 않음, 빈 문자열 prefix 는 null 로 취급)
+ *
+ * @param userNamePrefix 로그인 ID 앞부분 (대소문자 무시)
+ * @param namePrefix     이름 앞부분 (대소문자 무시)
+ */
+public record AdminUserSearchCondition(
+        UserStatus status,
+        UserRole role,
+        AdvisorStatus advisorStatus,
+        String userNamePrefix,
+        String namePrefix
+) {
+
+    public AdminUserSearchCondition {
+        userNamePrefix = blankToNull(userNamePrefix);
+        namePrefix = blankToNull(namePrefix);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
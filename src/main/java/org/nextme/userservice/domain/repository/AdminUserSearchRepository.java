@@ -0,0 +1,41 @@
+package org.nextme.userservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 관리자 유저 검색 저장소
+ *
+ * - 정렬: 가입일 내림차순, userId 내림차순 (keyset 페이지네이션 기준)
+ * - 전체 건수는 정확한 count(*) 대신 플래너 추정치를 사용한다. (구현: infrastructure.persistence)
+ */
+public interface AdminUserSearchRepository {
+
+    /**
+     * @param fields         조회할 필드 (나머지 컬럼은 SELECT 하지 않고 null)
+     * @param afterCreatedAt 이전 페이지 마지막 행의 가입일 (첫 페이지면 null)
+     * @param afterUserId    이전 페이지 마지막 행의 userId (첫 페이지면 null)
+     * @param limit          최대 조회 건수
+     */
+    List<AdminUserRow> search(
+            AdminUserSearchCondition condition,
+            Set<AdminUserField> fields,
+            LocalDateTime afterCreatedAt,
+            UUID afterUserId,
+            int limit
+    );
+
+    /**
+     * 조건에 맞는 행 수 추정치 (통계 기반, 테이블을 읽지 않음)
+     * @return 추정할 수 없으면 null
+     */
+    Long estimateCount(AdminUserSearchCondition condition);
+
+    /**
+     * 조건에 맞는 userId 를 user_id 오름차순 keyset 으로 조회 (일괄 변경 청크용)
+     * @param afterUserId 이전 청크 마지막 userId (처음이면 null)
+     */
+    List<UUID> findUserIdsAfter(AdminUserSearchCondition condition, UUID afterUserId, int limit);
+}
@@ -0,0 +1,32 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 어드바이저 카탈로그(메모리 스냅샷) 적재용 프로젝션
+ * - 증분 갱신 시에는 노출 대상이 아니게 된 유저도 걸러내야 하므로 role/status/공개 여부를 같이 읽는다.
+ */
+public record AdvisorCatalogRow(
+        UUID userId,
+        String name,
+        UserRole role,
+        UserStatus status,
+        Boolean profileActive,
+        String mainCategory,
+        String intro,
+        Integer careerYears,
+        LocalDateTime updatedAt
+) {
+
+    /** 디렉터리 노출 대상 여부 (ADVISOR + ACTIVE + 공개 프로필 + 경력 입력) */
+    public boolean isListed() {
+        return role == UserRole.ADVISOR
+                && status == UserStatus.ACTIVE
+                && Boolean.TRUE.equals(profileActive)
+                && careerYears != null;
+    }
+}
@@ -0,0 +1,15 @@
+package org.nextme.userservice.domain.repository;
+
+/**
+ * 어드바이저 디렉터리 검색 조건
+ *
+ * - category      : 메인 카테고리 일치 (null 이면 전체)
+ * - minCareerYears: 최소 경력 연차 (경력 연차를 입력하지 않은 프로필은 노출되지 않음)
+ * - keyword       : 소개(intro) 부분 일치 (null 이면 조건 없음, 대소문자 무시)
+ */
+public record AdvisorDirectoryCondition(
+        String category,
+        int minCareerYears,
+        String keyword
+) {
+}
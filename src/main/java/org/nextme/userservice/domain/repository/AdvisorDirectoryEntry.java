@@ -0,0 +1,15 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 어드바이저 디렉터리 검색 결과 행 (공개 프로필 컬럼만)
+ */
+public record AdvisorDirectoryEntry(
+        UUID userId,
+        String name,
+        String mainCategory,
+        String intro,
+        int careerYears
+) {
+}
@@ -0,0 +1,26 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 어드바이저 디렉터리(공개 프로필) 검색 저장소
+ *
+ * - 대상: role = ADVISOR, status = ACTIVE, profile_active = true
+ * - 정렬: 경력 연차 내림차순, userId 오름차순 (keyset 페이지네이션 기준)
+ * - 조건 조합마다 맞는 partial index 를 타도록 필요한 조건만 SQL 에 넣는다. (구현: infrastructure.persistence)
+ */
+public interface AdvisorDirectoryRepository {
+
+    /**
+     * @param afterCareerYears 이전 페이지 마지막 행의 경력 연차 (첫 페이지면 null)
+     * @param afterUserId      이전 페이지 마지막 행의 userId (첫 페이지면 null)
+     * @param limit            최대 조회 건수
+     */
+    List<AdvisorDirectoryEntry> search(
+            AdvisorDirectoryCondition condition,
+            Integer afterCareerYears,
+            UUID afterUserId,
+            int limit
+    );
+}
@@ -0,0 +1,14 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * 아카이브 대상 유저 (잠금을 잡은 상태로 조회된 행)
+ */
+public record ArchiveCandidate(
+        UUID userId,
+        UserStatus status
+) {
+}
@@ -0,0 +1,23 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.AuditAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 감사 로그 1건
+ *
+ * @param actorId      작업을 수행한 유저 (시스템 작업이면 null)
+ * @param targetUserId 작업 대상 유저
+ * @param detail       부가 정보 (변경 전/후 값 등, 1000자 이내)
+ */
+public record AuditEntry(
+        UUID id,
+        LocalDateTime occurredAt,
+        AuditAction action,
+        UUID actorId,
+        UUID targetUserId,
+        String detail
+) {
+}
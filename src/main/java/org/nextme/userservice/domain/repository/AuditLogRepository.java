@@ -0,0 +1,22 @@
+package org.nextme.userservice.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 감사 로그 저장소 (p_audit_log, 월 파티션) (구현: infrastructure.persistence)
+ */
+public interface AuditLogRepository {
+
+    /** 여러 건을 배치 INSERT */
+    void insertAll(List<AuditEntry> entries);
+
+    /** fromMonth 가 속한 달부터 months 개월치 파티션을 미리 만든다. (있으면 건너뜀) */
+    void ensurePartitions(LocalDate fromMonth, int months);
+
+    /**
+     * beforeMonth 가 속한 달 이전 파티션 DROP
+     * @return 삭제한 파티션 수
+     */
+    int dropPartitionsBefore(LocalDate beforeMonth);
+}
@@ -0,0 +1,11 @@
+package org.nextme.userservice.domain.repository;
+
+/**
+ * 포인트 사용으로 줄어든 원장 행 (PointLedgerRepository.consumeSpendable 결과)
+ */
+public interface ConsumedPointLedger {
+
+    Long getLedgerId();
+
+    Long getTaken();
+}
@@ -0,0 +1,15 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 자동 해제 대상 예약 (native 쿼리 인터페이스 프로젝션)
+ */
+public interface ExpiredPointReservation {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    Long getAmount();
+}
@@ -0,0 +1,15 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 만료 처리 대상 원장 행 (native 쿼리 인터페이스 프로젝션)
+ */
+public interface ExpiringPointEntry {
+
+    Long getId();
+
+    UUID getUserId();
+
+    Long getRemaining();
+}
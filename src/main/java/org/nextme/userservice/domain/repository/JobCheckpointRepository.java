@@ -0,0 +1,16 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.Optional;
+
+/**
+ * 배치 잡 진행 위치 저장 (p_job_checkpoint) (구현: infrastructure.persistence)
+ *
+ * - 청크와 같은 트랜잭션에서 저장하면, 중간에 멈춰도 마지막으로 커밋된 청크 다음부터 이어서 처리할 수 있다.
+ */
+public interface JobCheckpointRepository {
+
+    Optional<String> find(String jobName);
+
+    /** lastKey 가 null 이면 처음부터 다시 시작 */
+    void save(String jobName, String lastKey);
+}
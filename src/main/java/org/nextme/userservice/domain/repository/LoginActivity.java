@@ -0,0 +1,22 @@
+package org.nextme.userservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 한 유저의 모아 둔 로그인 기록 (flush 주기 동안의 합)
+ *
+ * @param lastLoginAt 주기 내 마지막 로그인 시각
+ * @param count       주기 내 로그인 횟수
+ */
+public record LoginActivity(
+        UUID userId,
+        LocalDateTime lastLoginAt,
+        long count
+) {
+
+    public LoginActivity merge(LoginActivity other) {
+        LocalDateTime latest = lastLoginAt.isAfter(other.lastLoginAt) ? lastLoginAt : other.lastLoginAt;
+        return new LoginActivity(userId, latest, count + other.count);
+    }
+}
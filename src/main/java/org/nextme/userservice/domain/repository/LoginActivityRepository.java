@@ -0,0 +1,15 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.List;
+
+/**
+ * 로그인 기록 배치 반영 (구현: infrastructure.persistence)
+ */
+public interface LoginActivityRepository {
+
+    /**
+     * last_login_at 은 더 늦은 값으로, login_count 는 더해서 반영 (여러 인스턴스가 나눠 반영해도 결과가 같음)
+     * - version / updated_at 은 건드리지 않는다.
+     */
+    void recordLogins(List<LoginActivity> activities);
+}
@@ -0,0 +1,19 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 어드바이저 신청 대기열 프로젝션
+ * - 관리자 목록에 필요한 컬럼만 읽는다. (User 엔티티/소셜 계정/프로필 로딩 없음)
+ */
+public record PendingAdvisorRow(
+        UUID userId,
+        String userName,
+        String name,
+        UserRole role,
+        LocalDateTime requestedAt
+) {
+}
@@ -0,0 +1,44 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.PointDailyRollup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface PointDailyRollupRepository extends JpaRepository<PointDailyRollup, Long> {
+
+    // 기간 내 일별/프로모션별 집계 조회 (집계 행만 읽음)
+    Page<PointDailyRollup> findByUserIdAndRollupDateBetween(
+            UUID userId,
+            LocalDate from,
+            LocalDate to,
+            Pageable pageable
+    );
+
+    // (유저, 일자, 프로모션) 집계 행 누적 upsert
+    @Modifying
+    @Query(value = """
+            INSERT INTO {h-schema}p_point_daily_rollup AS r
+                (user_id, rollup_date, promotion_id, promotion_name, total_amount, earn_count, updated_at)
+            VALUES (:userId, :rollupDate, :promotionId, :promotionName, :amount, :earnCount, now())
+            ON CONFLICT (user_id, rollup_date, promotion_id) DO UPDATE
+            SET total_amount   = r.total_amount + EXCLUDED.total_amount,
+                earn_count     = r.earn_count + EXCLUDED.earn_count,
+                promotion_name = COALESCE(EXCLUDED.promotion_name, r.promotion_name),
+                updated_at     = now()
+            """, nativeQuery = true)
+    int accumulate(
+            @Param("userId") UUID userId,
+            @Param("rollupDate") LocalDate rollupDate,
+            @Param("promotionId") UUID promotionId,
+            @Param("promotionName") String promotionName,
+            @Param("amount") long amount,
+            @Param("earnCount") long earnCount
+    );
+}
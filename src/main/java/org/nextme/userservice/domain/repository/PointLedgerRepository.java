@@ -0,0 +1,101 @@
+package org.nextme.userservice.domain.repository;
+
+import jakarta.persistence.LockModeType;
+import org.nextme.userservice.domain.PointLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
+
+    /**
+     * 만료 대상 원장 청크 조회 + 행 잠금
+     * - SKIP LOCKED: 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 대기/경합 없이 청크를 가져온다.
+     * - partial index(idx_point_ledger_expiring) 를 타도록 remaining > 0 조건을 그대로 사용
+     */
+    @Query(value = """
+            SELECT id AS "id", user_id AS "userId", remaining AS "remaining"
+            FROM {h-schema}p_point_ledger
+            WHERE remaining > 0
+              AND expires_at <= :now
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ExpiringPointEntry> lockExpiringEntries(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    // 사용 가능한 원장 행이 있는지 (partial index idx_point_ledger_user_spendable)
+    boolean existsByUserIdAndRemainingGreaterThan(UUID userId, Long remaining);
+
+    /**
+     * 포인트 사용분을 원장 행에서 차감 (만료 시각이 이른 행부터, UPDATE 1회)
+     * - 유저 포인트 조건부 차감이 성공한 뒤 같은 트랜잭션에서 호출한다.
+     *   (p_user 행 잠금으로 같은 유저의 사용은 이미 직렬화되어 있음)
+     * - SKIP LOCKED: 만료 잡/예약 해제가 잡고 있는 행은 기다리지 않고 건너뛴다.
+     *   (그쪽은 원장 → 유저 순서로 잠그므로, 유저 행을 쥔 채 원장 행을 기다리면 교착될 수 있다)
+     * - 원장 합계가 amount 보다 작으면 있는 만큼만 차감한다. (나머지는 만료 없는 포인트)
+     */
+    @Transactional
+    @Query(value = """
+            WITH locked AS (
+                SELECT id, remaining, expires_at
+                FROM {h-schema}p_point_ledger
+                WHERE user_id = :userId AND remaining > 0
+                FOR UPDATE SKIP LOCKED
+            ), ranked AS (
+                SELECT id, remaining,
+                       SUM(remaining) OVER (ORDER BY expires_at, id) - remaining AS consumed_before
+                FROM locked
+            )
+            UPDATE {h-schema}p_point_ledger l
+            SET remaining = l.remaining - LEAST(r.remaining, :amount - r.consumed_before)
+            FROM ranked r
+            WHERE l.id = r.id
+              AND r.consumed_before < :amount
+            RETURNING l.id AS "ledgerId", r.remaining - l.remaining AS "taken"
+            """, nativeQuery = true)
+    List<ConsumedPointLedger> consumeSpendable(@Param("userId") UUID userId, @Param("amount") long amount);
+
+    // 예약 해제 시 되돌릴 원장 행 조회 + 행 잠금 (만료 시각이 이른 행부터)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from PointLedgerEntry e
+            where e.id in :ids
+            order by e.expiresAt, e.id
+            """)
+    List<PointLedgerEntry> lockByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 원장 행 만료 처리
+     * - 남은 포인트 전부를 실제 차감액(expired_amount)으로 기록하고, 덜 차감된 행은 reduceExpiredAmount 로 보정한다.
+     */
+    @Modifying
+    @Query("""
+            update PointLedgerEntry e
+            set e.expiredAmount = coalesce(e.expiredAmount, 0) + e.remaining,
+                e.remaining = 0,
+                e.expiredAt = :now
+            where e.id in :ids
+            """)
+    int markExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 실제 차감액 보정 (유저 잔액이 모자라 남은 포인트만큼 차감하지 못한 경우)
+    @Modifying
+    @Query("""
+            update PointLedgerEntry e
+            set e.expiredAmount = e.expiredAmount - :shortfall
+            where e.id = :id
+            """)
+    int reduceExpiredAmount(@Param("id") Long id, @Param("shortfall") long shortfall);
+}
@@ -0,0 +1,66 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.PointReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PointReservationRepository extends JpaRepository<PointReservation, UUID> {
+
+    // RESERVED → CONFIRMED (본인 예약 + 만료 전일 때만)
+    @Modifying
+    @Query("""
+            update PointReservation r
+            set r.status = org.nextme.userservice.domain.PointReservationStatus.CONFIRMED, r.completedAt = :now
+            where r.id = :id
+              and r.userId = :userId
+              and r.status = org.nextme.userservice.domain.PointReservationStatus.RESERVED
+              and r.expiresAt > :now
+            """)
+    int confirm(@Param("id") UUID id, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    // RESERVED → RELEASED (본인 예약일 때만)
+    @Modifying
+    @Query("""
+            update PointReservation r
+            set r.status = org.nextme.userservice.domain.PointReservationStatus.RELEASED, r.completedAt = :now
+            where r.id = :id
+              and r.userId = :userId
+              and r.status = org.nextme.userservice.domain.PointReservationStatus.RESERVED
+            """)
+    int release(@Param("id") UUID id, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 예약 청크 조회 + 행 잠금 (SKIP LOCKED)
+     * - 동시에 confirm/release 중인 예약은 건너뛴다.
+     */
+    @Query(value = """
+            SELECT reservation_id AS "id", user_id AS "userId", amount AS "amount"
+            FROM {h-schema}p_point_reservation
+            WHERE status = 'RESERVED'
+              AND expires_at <= :now
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ExpiredPointReservation> lockExpiredReservations(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    // 만료 예약 일괄 해제
+    @Modifying
+    @Query("""
+            update PointReservation r
+            set r.status = org.nextme.userservice.domain.PointReservationStatus.RELEASED, r.completedAt = :now
+            where r.id in :ids
+              and r.status = org.nextme.userservice.domain.PointReservationStatus.RESERVED
+            """)
+    int releaseAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,13 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.PointReservationUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PointReservationUsageRepository extends JpaRepository<PointReservationUsage, Long> {
+
+    List<PointReservationUsage> findByReservationIdIn(Collection<UUID> reservationIds);
+}
@@ -0,0 +1,22 @@
+package org.nextme.userservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 처리 완료 메시지 기록 (p_processed_message) (구현: infrastructure.persistence)
+ *
+ * - 메시지 반영과 같은 트랜잭션에서 기록해야 한다. (롤백되면 기록도 함께 사라져 재전달 시 다시 처리됨)
+ */
+public interface ProcessedMessageRepository {
+
+    /**
+     * 메시지 키들을 처리 완료로 기록하고, 이번에 새로 기록된 키만 반환
+     * - 이미 기록된 키(재전달된 메시지)는 반환값에 포함되지 않는다.
+     */
+    Set<String> markProcessed(String consumer, Collection<String> messageKeys);
+
+    /** 보존 기간이 지난 기록 삭제 */
+    int deleteProcessedBefore(LocalDateTime threshold);
+}
@@ -0,0 +1,14 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.AdvisorStatus;
+
+import java.util.UUID;
+
+/**
+ * 유저별 어드바이저 상태 프로젝션 (일괄 승인/거절 결과 판정용)
+ */
+public record UserAdvisorState(
+        UUID userId,
+        AdvisorStatus advisorStatus
+) {
+}
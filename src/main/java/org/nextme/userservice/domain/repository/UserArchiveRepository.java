@@ -0,0 +1,38 @@
+package org.nextme.userservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 유저 아카이브 (p_user_archive) (구현: infrastructure.persistence)
+ *
+ * - p_user / p_user_profile / social_account 행을 JSONB 한 건으로 옮기고, 복원 시 그대로 되돌린다.
+ */
+public interface UserArchiveRepository {
+
+    /**
+     * 아카이브 대상 청크 조회 + 행 잠금 (user_id 순 keyset, SKIP LOCKED)
+     * - DELETED : updated_at 이 deletedBefore 이전
+     * - INACTIVE: 마지막 로그인(없으면 updated_at)이 inactiveBefore 이전
+     * - 진행 중인 포인트 예약이 있는 유저는 제외
+     *
+     * @param afterUserId 이 user_id 다음부터 (null 이면 처음부터)
+     */
+    List<ArchiveCandidate> lockCandidates(
+            UUID afterUserId,
+            LocalDateTime deletedBefore,
+            LocalDateTime inactiveBefore,
+            int limit
+    );
+
+    /** 대상 유저를 아카이브로 옮기고 원본 행(소셜 계정/프로필 포함)을 삭제 */
+    void archive(List<UUID> userIds, LocalDateTime archivedAt);
+
+    /**
+     * 아카이브된 유저를 원래 테이블로 되돌리고 아카이브 행 삭제
+     * @return 복원된 유저의 user_name, 아카이브에 없으면 empty
+     */
+    Optional<String> restore(UUID userId);
+}
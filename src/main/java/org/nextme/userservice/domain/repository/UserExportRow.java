@@ -0,0 +1,26 @@
+package org.nextme.userservice.domain.repository;
+
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 유저 내보내기(export) 1행 프로젝션
+ * - 엔티티가 아니므로 스트리밍 중 영속성 컨텍스트에 쌓이지 않는다.
+ */
+public record UserExportRow(
+        UUID userId,
+        String userName,
+        String name,
+        String email,
+        String slackId,
+        UserRole role,
+        UserStatus status,
+        AdvisorStatus advisorStatus,
+        Long point,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package org.nextme.userservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 포인트 랭킹 재구성용 프로젝션 (userId + 누적 포인트)
+ * - User 엔티티 전체를 읽지 않기 위해 사용한다.
+ */
+public record UserPointSnapshot(
+        UUID userId,
+        Long point
+) {
+}
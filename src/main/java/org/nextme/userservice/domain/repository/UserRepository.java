@@ -1,13 +1,28 @@
 package org.nextme.userservice.domain.repository;
 
-import org.nextme.userservice.domain.AdvisorStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.nextme.userservice.domain.SocialProvider;
 import org.nextme.userservice.domain.User;
 import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, UserId> {
 
@@ -17,10 +32,260 @@ public interface UserRepository extends JpaRepository<User, UserId> {
             String providerUserId
     );
 
-    // 어드바이저 신청(PENDING) 상태인 유저 목록 조회
-    List<User> findByAdvisorStatus(AdvisorStatus advisorStatus);
+    // 어드바이저 신청 대기열 첫 페이지 (신청 시각 오름차순, partial index: idx_user_advisor_pending)
+    @Query("""
+            select new org.nextme.userservice.domain.repository.PendingAdvisorRow(
+                u.id.id, u.userName, u.name, u.role, u.advisorRequestedAt)
+            from User u
+            where u.advisorStatus = org.nextme.userservice.domain.AdvisorStatus.PENDING
+            order by u.advisorRequestedAt, u.id.id
+            """)
+    List<PendingAdvisorRow> findPendingAdvisors(Pageable pageable);
+
+    // 어드바이저 신청 대기열 다음 페이지 (keyset: (신청 시각, userId) 이후)
+    @Query("""
+            select new org.nextme.userservice.domain.repository.PendingAdvisorRow(
+                u.id.id, u.userName, u.name, u.role, u.advisorRequestedAt)
+            from User u
+            where u.advisorStatus = org.nextme.userservice.domain.AdvisorStatus.PENDING
+              and (u.advisorRequestedAt, u.id.id) > (:afterRequestedAt, :afterUserId)
+            order by u.advisorRequestedAt, u.id.id
+            """)
+    List<PendingAdvisorRow> findPendingAdvisorsAfter(
+            @Param("afterRequestedAt") LocalDateTime afterRequestedAt,
+            @Param("afterUserId") UUID afterUserId,
+            Pageable pageable
+    );
+
+    /**
+     * 애그리거트 수정용 조회 (OPTIMISTIC_FORCE_INCREMENT)
+     * - 프로필(p_user_profile)처럼 p_user 컬럼이 바뀌지 않는 수정도 User.version 을 올려
+     *   같은 유저에 대한 동시 수정끼리 충돌로 감지되게 한다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") UserId id);
+
+    /**
+     * version 만 조회 (ETag 계산용, 엔티티를 로딩하지 않음)
+     */
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UserId id);
 
     boolean existsByUserName(String userName);
 
+    // 일괄 변경 후 ACTIVE MASTER 가 남아 있는지 확인
+    boolean existsByRoleAndStatus(UserRole role, UserStatus status);
+
+    // ACTIVE MASTER 행 잠금 (MASTER 를 잃을 수 있는 일괄 변경끼리 직렬화, user_id 순서로 잠가 교착 방지)
+    @Query(value = """
+            SELECT user_id FROM {h-schema}p_user
+            WHERE role = 'MASTER' AND status = 'ACTIVE'
+            ORDER BY user_id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<UUID> lockActiveMasterIds();
+
+    // 로그인 ID Bloom 필터 적재: user_name 유니크 인덱스 순서로 청크 조회 (keyset)
+    @Query("select u.userName from User u where u.userName > :after order by u.userName")
+    List<String> findUserNamesAfter(@Param("after") String after, Pageable pageable);
+
+    // 로그인 ID Bloom 필터 증분 갱신: since 이후 가입한 유저의 로그인 ID
+    @Query("select u.userName from User u where u.createdAt >= :since")
+    List<String> findUserNamesCreatedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
     Optional<User> findByUserName(String userName);
-}
\ No newline at end of file
+
+    /**
+     * 유저 내보내기: 조건에 맞는 유저를 userId 순서로 스트리밍
+     * - fetch size 만큼씩 서버 커서로 가져오므로 전체 행을 메모리에 올리지 않는다.
+     * - 반드시 트랜잭션 안에서 사용하고, 다 쓴 뒤 Stream 을 close 해야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new org.nextme.userservice.domain.repository.UserExportRow(
+                u.id.id, u.userName, u.name, u.email, u.slackId,
+                u.role, u.status, u.advisorStatus, u.point, u.createdAt)
+            from User u
+            where (:status is null or u.status = :status)
+              and (:role is null or u.role = :role)
+            order by u.id.id
+            """)
+    Stream<UserExportRow> streamForExport(@Param("status") UserStatus status, @Param("role") UserRole role);
+
+    // 일괄 가져오기: 청크 내 userName 중 이미 존재하는 것 (unique 인덱스로 한 번에 조회)
+    @Query("select u.userName from User u where u.userName in :userNames")
+    List<String> findExistingUserNames(@Param("userNames") Collection<String> userNames);
+
+    /**
+     * 어드바이저 일괄 승인 (PENDING 인 유저만, UPDATE 1회)
+     * @return 실제로 승인된 userId 목록
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE {h-schema}p_user
+            SET advisor_status = 'APPROVED', role = 'ADVISOR', updated_at = now(), version = version + 1
+            WHERE user_id IN (:userIds)
+              AND advisor_status = 'PENDING'
+            RETURNING user_id
+            """, nativeQuery = true)
+    List<UUID> approvePendingAdvisors(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 어드바이저 일괄 거절 (PENDING 인 유저만, UPDATE 1회)
+     * @return 실제로 거절된 userId 목록
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE {h-schema}p_user
+            SET advisor_status = 'REJECTED', updated_at = now(), version = version + 1
+            WHERE user_id IN (:userIds)
+              AND advisor_status = 'PENDING'
+            RETURNING user_id
+            """, nativeQuery = true)
+    List<UUID> rejectPendingAdvisors(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 관리자 일괄 상태/권한 변경 (UPDATE 1회)
+     * - status / role 중 null 인 쪽은 그대로 두고, 실제로 값이 바뀌는 유저만 갱신한다.
+     * @return 실제로 변경된 userId 목록
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE {h-schema}p_user
+            SET status = COALESCE(CAST(:status AS VARCHAR), status),
+                role = COALESCE(CAST(:role AS VARCHAR), role),
+                updated_at = now(), version = version + 1
+            WHERE user_id IN (:userIds)
+              AND (status <> COALESCE(CAST(:status AS VARCHAR), status)
+                OR role <> COALESCE(CAST(:role AS VARCHAR), role))
+            RETURNING user_id
+            """, nativeQuery = true)
+    List<UUID> changeStatusAndRole(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("status") String status,
+            @Param("role") String role
+    );
+
+    /**
+     * 대시보드 통계 재계산용: role / status / advisorStatus 별 유저 수 + 전체 수 (테이블 1회 스캔)
+     */
+    @Query(value = """
+            SELECT CASE
+                       WHEN GROUPING(role) = 0 THEN 'role'
+                       WHEN GROUPING(status) = 0 THEN 'status'
+                       WHEN GROUPING(advisor_status) = 0 THEN 'advisorStatus'
+                       ELSE 'total'
+                   END AS "dimension",
+                   COALESCE(role, status, advisor_status) AS "value",
+                   count(*) AS "count"
+            FROM {h-schema}p_user
+            GROUP BY GROUPING SETS ((role), (status), (advisor_status), ())
+            """, nativeQuery = true)
+    List<UserStatsCount> countStats();
+
+    /**
+     * 대시보드 통계 재계산용: since 이후 일별 가입 수 (idx_user_created_at_id 범위 스캔)
+     */
+    @Query(value = """
+            SELECT to_char(created_at, 'YYYY-MM-DD') AS "day", count(*) AS "count"
+            FROM {h-schema}p_user
+            WHERE created_at >= :since
+            GROUP BY 1
+            """, nativeQuery = true)
+    List<UserSignupCount> countSignupsSince(@Param("since") LocalDateTime since);
+
+    // 일괄 처리 결과 판정용: 여러 유저의 현재 어드바이저 상태
+    @Query("""
+            select new org.nextme.userservice.domain.repository.UserAdvisorState(u.id.id, u.advisorStatus)
+            from User u
+            where u.id.id in :userIds
+            """)
+    List<UserAdvisorState> findAdvisorStates(@Param("userIds") Collection<UUID> userIds);
+
+    // 어드바이저 카탈로그 전체 적재: 노출 대상만 userId 기준 keyset 청크 조회
+    @Query("""
+            select new org.nextme.userservice.domain.repository.AdvisorCatalogRow(
+                u.id.id, u.name, u.role, u.status, p.active,
+                p.mainCategory, p.intro, p.careerYears, u.updatedAt)
+            from User u
+            join u.profile p
+            where u.role = org.nextme.userservice.domain.UserRole.ADVISOR
+              and u.status = org.nextme.userservice.domain.UserStatus.ACTIVE
+              and p.active = true
+              and p.careerYears is not null
+              and u.id.id > :after
+            order by u.id.id
+            """)
+    List<AdvisorCatalogRow> findAdvisorCatalogRowsAfter(@Param("after") UUID after, Pageable pageable);
+
+    // 어드바이저 카탈로그 증분 갱신 (1): since 이후 p_user 가 변경된 유저 (노출 대상이 아니게 된 유저 포함)
+    @Query("""
+            select new org.nextme.userservice.domain.repository.AdvisorCatalogRow(
+                u.id.id, u.name, u.role, u.status, p.active,
+                p.mainCategory, p.intro, p.careerYears, u.updatedAt)
+            from User u
+            left join u.profile p
+            where u.updatedAt > :since
+            order by u.updatedAt
+            """)
+    List<AdvisorCatalogRow> findAdvisorCatalogRowsChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 어드바이저 카탈로그 증분 갱신 (2): since 이후 프로필(p_user_profile)만 변경된 유저
+    @Query("""
+            select new org.nextme.userservice.domain.repository.AdvisorCatalogRow(
+                u.id.id, u.name, u.role, u.status, p.active,
+                p.mainCategory, p.intro, p.careerYears, p.updatedAt)
+            from User u
+            join u.profile p
+            where p.updatedAt > :since
+            order by p.updatedAt
+            """)
+    List<AdvisorCatalogRow> findAdvisorCatalogRowsWithProfileChangedSince(
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    // 포인트 랭킹 재구성용: userId 기준 keyset 청크 조회 (포인트 0 인 유저 제외)
+    @Query("""
+            select new org.nextme.userservice.domain.repository.UserPointSnapshot(u.id.id, u.point)
+            from User u
+            where u.id.id > :after and u.point > 0
+            order by u.id.id
+            """)
+    List<UserPointSnapshot> findPointSnapshotsAfter(@Param("after") UUID after, Pageable pageable);
+
+    // 포인트 적립 (엔티티 로딩 없이 set-based UPDATE)
+    // - version 도 올려서, 같은 유저를 엔티티로 읽어 수정 중인 트랜잭션이 포인트를 덮어쓰지 않고 충돌로 실패하게 한다.
+    @Modifying
+    @Query("update User u set u.point = u.point + :amount, u.version = u.version + 1 where u.id.id = :userId")
+    int addPoint(@Param("userId") UUID userId, @Param("amount") long amount);
+
+    // 여러 유저의 현재 포인트 조회
+    @Query("""
+            select new org.nextme.userservice.domain.repository.UserPointSnapshot(u.id.id, u.point)
+            from User u
+            where u.id.id in :userIds
+            """)
+    List<UserPointSnapshot> findPointSnapshots(@Param("userIds") Collection<UUID> userIds);
+
+    // 포인트 잔액 조회 + 행 잠금 (만료 처리용: 차감액 계산과 차감 사이에 잔액이 바뀌지 않도록)
+    @Query(value = "SELECT point FROM {h-schema}p_user WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockPoint(@Param("userId") UUID userId);
+
+    /**
+     * 잔액이 충분할 때만 포인트 차감 (조건부 UPDATE 1회)
+     * - 행 잠금을 요청 동안 들고 있지 않고, DB 가 UPDATE 시점에 잔액을 검사하므로 동시 차감에도 마이너스가 되지 않는다.
+     * @return 1: 차감 성공, 0: 잔액 부족 또는 유저 없음
+     */
+    @Modifying
+    @Query("""
+            update User u
+            set u.point = u.point - :amount, u.version = u.version + 1
+            where u.id.id = :userId and u.point >= :amount
+            """)
+    int deductPointIfEnough(@Param("userId") UUID userId, @Param("amount") long amount);
+}
@@ -0,0 +1,13 @@
+package org.nextme.userservice.domain.repository;
+
+/**
+ * 일별 가입 수 (native 쿼리 인터페이스 프로젝션)
+ *
+ * - day: yyyy-MM-dd
+ */
+public interface UserSignupCount {
+
+    String getDay();
+
+    Long getCount();
+}
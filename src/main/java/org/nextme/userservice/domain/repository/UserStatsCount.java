@@ -0,0 +1,16 @@
+package org.nextme.userservice.domain.repository;
+
+/**
+ * 유저 통계 집계 결과 (native 쿼리 인터페이스 프로젝션)
+ *
+ * - dimension: role / status / advisorStatus / total
+ * - value    : 해당 dimension 의 값 (total 이면 null)
+ */
+public interface UserStatsCount {
+
+    String getDimension();
+
+    String getValue();
+
+    Long getCount();
+}
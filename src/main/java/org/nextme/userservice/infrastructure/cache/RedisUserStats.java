@@ -0,0 +1,112 @@
+package org.nextme.userservice.infrastructure.cache;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 유저 통계 (Redis hash)
+ *
+ * - user:stats         : total, role:{ROLE}, status:{STATUS}, advisorStatus:{STATUS}, reconciledAt
+ * - user:stats:signups : yyyy-MM-dd → 가입 수
+ * - user:stats:dirty   : 벌크 UPDATE 등 증분 반영이 안 되는 변경이 있었음 (재계산 필요)
+ * - 증분은 HINCRBY 파이프라인 1회, 재계산 결과는 MULTI/EXEC 로 통째로 교체한다.
+ */
+@Component
+public class RedisUserStats {
+
+    public static final String TOTAL = "total";
+    public static final String RECONCILED_AT = "reconciledAt";
+
+    private static final String COUNTS_KEY = "user:stats";
+    private static final String SIGNUPS_KEY = "user:stats:signups";
+    private static final String DIRTY_KEY = "user:stats:dirty";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisUserStats(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public static String roleField(String role) {
+        return "role:" + role;
+    }
+
+    public static String statusField(String status) {
+        return "status:" + status;
+    }
+
+    public static String advisorStatusField(String advisorStatus) {
+        return "advisorStatus:" + advisorStatus;
+    }
+
+    /** 증분 반영 (0 인 항목은 건너뜀) */
+    public void increment(Map<String, Long> counts, Map<String, Long> signups) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counts.forEach((field, delta) -> {
+                if (delta != 0) {
+                    stringConnection.hIncrBy(COUNTS_KEY, field, delta);
+                }
+            });
+            signups.forEach((day, delta) -> {
+                if (delta != 0) {
+                    stringConnection.hIncrBy(SIGNUPS_KEY, day, delta);
+                }
+            });
+            return null;
+        });
+    }
+
+    /** 재계산 결과로 통째로 교체 (원자적) */
+    public void replace(Map<String, String> counts, Map<String, String> signups) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.delete(List.of(COUNTS_KEY, SIGNUPS_KEY));
+                operations.opsForHash().putAll(COUNTS_KEY, counts);
+                if (!signups.isEmpty()) {
+                    operations.opsForHash().putAll(SIGNUPS_KEY, signups);
+                }
+                return operations.exec();
+            }
+        });
+    }
+
+    public Map<String, String> readCounts() {
+        Map<String, String> counts = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(COUNTS_KEY).forEach(counts::put);
+        return counts;
+    }
+
+    /** @return days 순서대로 가입 수 (없으면 null) */
+    public List<String> readSignups(Collection<String> days) {
+        return redisTemplate.<String, String>opsForHash().multiGet(SIGNUPS_KEY, days);
+    }
+
+    public void markDirty() {
+        redisTemplate.opsForValue().set(DIRTY_KEY, "1");
+    }
+
+    /** 재계산이 필요한지 (벌크 변경 표시가 있거나, 아직 한 번도 계산하지 않음) */
+    public boolean needsReconcile() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(DIRTY_KEY))
+                || !redisTemplate.opsForHash().hasKey(COUNTS_KEY, RECONCILED_AT);
+    }
+
+    /** 재계산 시작 전에 호출 (계산 중 들어온 표시는 남아 다음 주기에 다시 계산) */
+    public void clearDirty() {
+        redisTemplate.delete(DIRTY_KEY);
+    }
+}
@@ -0,0 +1,122 @@
+package org.nextme.userservice.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유저별 version 스탬프 캐시 (Redis, ETag 계산용)
+ *
+ * - key: user:version:{userId}, value: p_user.version
+ * - 캐시에 저장된 version 은 올라가기만 한다. (SET_SCRIPT: 저장된 값보다 클 때만 덮어씀)
+ *   - 조회 경로의 채우기(fill)가 커밋 전에 읽은 옛 version 을 늦게 넣어도, 커밋 후 올린 값을 덮어쓰지 못한다.
+ * - 수정 후 새 version 을 아는 경우(엔티티 수정)는 커밋 후 그 값으로 올리고(raise),
+ *   모르는 경우(벌크 UPDATE, 프로필 수정)는 잠깐 동안 채우기를 막는 표식(tombstone)을 남긴다(invalidate).
+ *   - 표식이 있는 동안은 캐시 미스로 DB 에서 읽고, 표식이 사라진 뒤의 채우기는 커밋된 값을 읽은 것이다.
+ * - Redis 장애 시 조회는 null(캐시 미스), 쓰기는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class RedisUserVersionStamp {
+
+    private static final String PREFIX = "user:version:";
+    private static final String TOMBSTONE = "-";
+
+    /**
+     * KEYS[1]: 스탬프 키, ARGV[1]: version, ARGV[2]: TTL(ms), ARGV[3]: 1 이면 표식도 덮어씀(raise), ARGV[4]: 표식 값
+     * - 표식이 있거나 저장된 값이 같거나 크면 그대로 둔다.
+     */
+    private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[4] then
+                if ARGV[3] ~= '1' then
+                    return 0
+                end
+            elseif current and tonumber(current) >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMs;
+    private final long tombstoneTtlMs;
+
+    public RedisUserVersionStamp(
+            StringRedisTemplate redisTemplate,
+            @Value("${user.etag.version-ttl-seconds:300}") long ttlSeconds,
+            @Value("${user.etag.tombstone-ttl-ms:5000}") long tombstoneTtlMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = ttlSeconds * 1000;
+        this.tombstoneTtlMs = tombstoneTtlMs;
+    }
+
+    /** @return 캐시된 version (없거나 표식이거나 Redis 조회 실패 시 null) */
+    public Long get(UUID userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(PREFIX + userId);
+            return value != null && !TOMBSTONE.equals(value) ? Long.valueOf(value) : null;
+        } catch (RuntimeException e) {
+            log.debug("[userVersionStamp] get failed. userId={}, cause={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /** DB 에서 읽은 version 으로 채우기 (표식이 있거나 더 큰 값이 있으면 무시) */
+    public void put(UUID userId, long version) {
+        set(userId, version, false);
+    }
+
+    /** 커밋된 새 version 으로 올리기 (표식도 덮어씀, 더 큰 값이 있으면 무시) */
+    public void raise(UUID userId, long version) {
+        set(userId, version, true);
+    }
+
+    public void invalidate(UUID userId) {
+        invalidateAll(List.of(userId));
+    }
+
+    /** 새 version 을 모르는 변경: 여러 유저에 표식을 파이프라인 1회로 남긴다. */
+    public void invalidateAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID userId : userIds) {
+                    stringConnection.pSetEx(PREFIX + userId, tombstoneTtlMs, TOMBSTONE);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[userVersionStamp] invalidate failed. users={}, cause={}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private void set(UUID userId, long version, boolean overrideTombstone) {
+        try {
+            redisTemplate.execute(
+                    SET_SCRIPT,
+                    List.of(PREFIX + userId),
+                    Long.toString(version),
+                    Long.toString(ttlMs),
+                    overrideTombstone ? "1" : "0",
+                    TOMBSTONE
+            );
+        } catch (RuntimeException e) {
+            log.debug("[userVersionStamp] set failed. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 인터셉터 / 본문 필터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class IdempotencyConfig implements WebMvcConfigurer {
+
+    private final IdempotencyStore idempotencyStore;
+    private final MeterRegistry meterRegistry;
+
+    /** 첫 요청 처리 중 마커 유지 시간 (처리 중 서버가 죽어도 이 시간이 지나면 재시도 가능) */
+    @Value("${idempotency.lock-ttl-seconds:30}")
+    private long lockTtlSeconds;
+
+    /** 완료 응답 보관 시간 */
+    @Value("${idempotency.response-ttl-hours:24}")
+    private long responseTtlHours;
+
+    /** 처리 중인 같은 키 요청이 기다리는 최대 시간 */
+    @Value("${idempotency.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    @Value("${idempotency.poll-interval-ms:50}")
+    private long pollIntervalMs;
+
+    /** 인터셉터가 요청 지문을 계산할 수 있도록 Idempotency-Key 요청의 본문을 미리 읽어 둔다. */
+    @Bean
+    public IdempotencyRequestBodyFilter idempotencyRequestBodyFilter() {
+        return new IdempotencyRequestBodyFilter();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new IdempotencyInterceptor(
+                idempotencyStore,
+                meterRegistry,
+                Duration.ofSeconds(lockTtlSeconds),
+                Duration.ofHours(responseTtlHours),
+                Duration.ofMillis(waitTimeoutMs),
+                Duration.ofMillis(pollIntervalMs)
+        ));
+    }
+}
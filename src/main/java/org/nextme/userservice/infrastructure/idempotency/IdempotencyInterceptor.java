@@ -0,0 +1,213 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.common.security.UserPrincipal;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Idempotency-Key 처리 (@Idempotent 핸들러에만 적용)
+ *
+ * 1) 키 = idem:{userId|anonymous}:{method}:{uri}:{Idempotency-Key}  (유저별로 분리)
+ *    + 요청 지문 = SHA-256(method + URI + 본문) 을 키 값에 함께 저장 (본문은 IdempotencyRequestBodyFilter 가 미리 읽음)
+ *    - 같은 키로 지문이 다른 요청이 오면 실행/재응답하지 않고 422 (다른 요청의 응답이 새지 않도록, 익명 가입 포함)
+ * 2) SET NX 선점에 성공한 요청만 핸들러 실행
+ *    - 2xx 응답은 IdempotencyResponseAdvice 가 잡아둔 본문을 afterCompletion 에서 스냅샷으로 저장
+ *    - 그 외(4xx/5xx/예외)는 키를 지워 재시도가 다시 실행되게 한다.
+ * 3) 이미 완료된 키면 핸들러 없이 스냅샷을 그대로 응답 (Idempotent-Replayed: true)
+ * 4) 처리 중인 키면 wait-timeout 동안 폴링하며 기다렸다가 결과를 응답 (끝나지 않으면 409)
+ * 5) Redis 장애 시에는 키 없이 실행한다. (중복 방지보다 가용성 우선)
+ *
+ * 메트릭: http.idempotency{result}
+ * - executed / replayed / replayed_after_wait / in_progress_timeout / mismatch / bypass(Redis 장애)
+ */
+@Slf4j
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".KEY";
+    static final String FINGERPRINT_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".FINGERPRINT";
+    static final String RESPONSE_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".RESPONSE";
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final MeterRegistry meterRegistry;
+    private final Duration lockTtl;
+    private final Duration responseTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public IdempotencyInterceptor(
+            IdempotencyStore store,
+            MeterRegistry meterRegistry,
+            Duration lockTtl,
+            Duration responseTtl,
+            Duration waitTimeout,
+            Duration pollInterval
+    ) {
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.lockTtl = lockTtl;
+        this.responseTtl = responseTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw toAppException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String key = "idem:" + currentScope() + ":" + request.getMethod() + ":" + request.getRequestURI()
+                + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean waited = false;
+
+        while (true) {
+            IdempotencyStore.Entry entry;
+            try {
+                if (store.tryAcquire(key, fingerprint, lockTtl)) {
+                    request.setAttribute(KEY_ATTRIBUTE, key);
+                    request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+                    count("executed");
+                    return true;
+                }
+                entry = store.find(key);
+            } catch (RuntimeException e) {
+                log.warn("[idempotency] store unavailable. execute without key. cause={}", e.getMessage());
+                count("bypass");
+                return true;
+            }
+
+            if (entry != null && !fingerprint.equals(entry.fingerprint())) {
+                count("mismatch");
+                throw toAppException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (entry != null && entry.response() != null) {
+                replay(response, entry.response());
+                count(waited ? "replayed_after_wait" : "replayed");
+                return false;
+            }
+            // 처리 중 (또는 방금 실패로 지워져 다음 루프에서 선점 가능)
+            if (System.nanoTime() > deadline) {
+                count("in_progress_timeout");
+                throw toAppException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            waited = true;
+            sleep();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null) {
+            return;
+        }
+        IdempotencyStore.StoredResponse captured =
+                (IdempotencyStore.StoredResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+        try {
+            if (ex == null && captured != null && captured.status() >= 200 && captured.status() < 300) {
+                store.complete(key, (String) request.getAttribute(FINGERPRINT_ATTRIBUTE), captured, responseTtl);
+            } else {
+                store.release(key);
+            }
+        } catch (RuntimeException e) {
+            // 선점 마커는 lockTtl 이 지나면 사라진다.
+            log.warn("[idempotency] failed to finish key. key={}, cause={}", key, e.getMessage());
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader("Idempotent-Replayed", "true");
+        byte[] body = stored.body() == null ? new byte[0] : stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /** SHA-256(method + URI(+ query) + 본문) hex */
+    private String fingerprint(HttpServletRequest request) {
+        IdempotencyRequestBodyFilter.CachedBodyRequest cached =
+                WebUtils.getNativeRequest(request, IdempotencyRequestBodyFilter.CachedBodyRequest.class);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            if (cached != null) {
+                digest.update(cached.body());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 로그인 유저면 userId, 아니면(회원가입 등) anonymous */
+    private String currentScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.userId();
+        }
+        return "anonymous";
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw toAppException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("http.idempotency", "result", result).increment();
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Idempotency-Key 로 선점한 요청의 응답 본문을 잡아 둔다. (저장은 IdempotencyInterceptor.afterCompletion)
+ *
+ * - 키가 없는 요청은 그대로 통과 (추가 직렬화 없음)
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || servletRequest.getServletRequest().getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE) == null) {
+            return body;
+        }
+        int status = response instanceof ServletServerHttpResponse servletResponse
+                ? servletResponse.getServletResponse().getStatus()
+                : 200;
+        try {
+            String serialized = body instanceof String text ? text : objectMapper.writeValueAsString(body);
+            servletRequest.getServletRequest().setAttribute(IdempotencyInterceptor.RESPONSE_ATTRIBUTE,
+                    new IdempotencyStore.StoredResponse(status, selectedContentType.toString(), serialized));
+        } catch (JsonProcessingException e) {
+            // 잡지 못하면 afterCompletion 에서 키를 지워 재시도가 다시 실행되게 둔다.
+            log.warn("[idempotency] failed to capture response body. cause={}", e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,71 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis)
+ *
+ * - 처리 중: SET NX 로 IN_PROGRESS 마커(+ 요청 지문)를 짧은 TTL 로 선점 (첫 요청만 성공)
+ * - 완료: 요청 지문 + 응답 스냅샷(JSON)으로 덮어쓰고 보관 TTL 적용
+ * - 실패(5xx/4xx/예외): 키를 지워 재시도가 다시 실행되게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String IN_PROGRESS = "IN_PROGRESS:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 응답 스냅샷 */
+    public record StoredResponse(int status, String contentType, String body) {
+    }
+
+    /**
+     * 키에 저장된 상태
+     * @param fingerprint 키를 선점한 요청의 지문 (method + URI + 본문 SHA-256)
+     * @param response    완료된 응답 (처리 중이면 null)
+     */
+    public record Entry(String fingerprint, StoredResponse response) {
+    }
+
+    /** @return 선점에 성공하면 true (이 요청이 실제로 실행) */
+    public boolean tryAcquire(String key, String fingerprint, Duration lockTtl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS + fingerprint, lockTtl));
+    }
+
+    /** @return 키 상태 (없으면 null) */
+    public Entry find(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith(IN_PROGRESS)) {
+            return new Entry(value.substring(IN_PROGRESS.length()), null);
+        }
+        try {
+            return objectMapper.readValue(value, Entry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("broken idempotency snapshot. key=" + key, e);
+        }
+    }
+
+    public void complete(String key, String fingerprint, StoredResponse response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(new Entry(fingerprint, response)), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize idempotency snapshot. key=" + key, e);
+        }
+    }
+
+    public void release(String key) {
+        redisTemplate.delete(key);
+    }
+}
@@ -0,0 +1,20 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 컨트롤러 메서드 표시
+ *
+ * - 같은 키로 다시 요청하면 핸들러를 실행하지 않고 첫 응답(2xx)을 그대로 돌려준다.
+ * - 첫 요청이 처리 중이면 끝날 때까지 기다렸다가 그 결과를 돌려준다.
+ * - 헤더가 없으면 기존과 동일하게 매번 실행한다.
+ *
+ * @see IdempotencyInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
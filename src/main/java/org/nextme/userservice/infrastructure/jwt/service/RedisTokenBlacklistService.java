@@ -6,6 +6,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -14,6 +15,7 @@ public class RedisTokenBlacklistService implements TokenBlacklistService {
     private static final String PREFIX = "blacklist:jwt:";
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisUserTokenRevocation userTokenRevocation;
 
     @Override
     public void blacklist(String token, long millis) {
@@ -24,8 +26,20 @@ public class RedisTokenBlacklistService implements TokenBlacklistService {
                 .set(PREFIX + token, "1", Duration.ofSeconds(seconds));
     }
 
+    /**
+     * 토큰 단위 블랙리스트(로그아웃/재발급) + 유저 단위 무효화(RedisUserTokenRevocation)를 MGET 1회로 확인
+     */
     @Override
     public boolean isBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + token));
+        String userKey = userTokenRevocation.keyOf(token);
+        if (userKey == null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + token));
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(PREFIX + token, userKey));
+        if (values == null) {
+            return false;
+        }
+        return values.get(0) != null || userTokenRevocation.isRevoked(token, values.get(1));
     }
 }
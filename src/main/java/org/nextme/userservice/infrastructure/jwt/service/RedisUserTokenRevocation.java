@@ -0,0 +1,114 @@
+package org.nextme.userservice.infrastructure.jwt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.common.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 유저 단위 토큰 일괄 무효화 (Redis)
+ *
+ * - key: blacklist:user:{userId}, value: 무효화 시각 (epoch millis)
+ * - 토큰의 iat(초 단위)가 무효화 시각이 속한 초보다 앞이면 무효
+ *   → 무효화와 같은 초에 다시 로그인해 받은 토큰도 거부하지 않는다.
+ *     (iat 가 초 단위라 같은 초 안에서는 무효화 전/후 발급을 구분할 수 없으므로 재로그인 쪽을 허용)
+ * - TTL 은 refresh token 최대 수명 (그보다 오래된 토큰은 어차피 만료)
+ * - 여러 유저를 파이프라인 1회로 기록한다. (토큰 문자열을 몰라도 되므로 일괄 차단/권한 변경에 사용)
+ * - 확인은 RedisTokenBlacklistService.isBlacklisted 에서 토큰 블랙리스트와 같이 MGET 1회로 한다.
+ */
+@Slf4j
+@Component
+public class RedisUserTokenRevocation {
+
+    static final String PREFIX = "blacklist:user:";
+
+    // 이 값보다 작으면 epoch seconds 로 저장된 값 (epoch millis 로는 1970년 4월대)
+    private static final long SECONDS_UPPER_BOUND = 10_000_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public RedisUserTokenRevocation(
+            StringRedisTemplate redisTemplate,
+            JwtTokenProvider jwtTokenProvider,
+            ObjectMapper objectMapper,
+            @Value("${user.token-revocation.ttl-seconds:1209600}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /** 지금까지 발급된 해당 유저들의 토큰을 모두 무효화 (파이프라인 1회) */
+    public void revokeAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String revokedAt = String.valueOf(System.currentTimeMillis());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                stringConnection.setEx(PREFIX + userId, ttlSeconds, revokedAt);
+            }
+            return null;
+        });
+    }
+
+    /** @return 토큰 주인의 무효화 key (userId 를 읽을 수 없으면 null) */
+    String keyOf(String token) {
+        try {
+            String userId = jwtTokenProvider.getUserId(token);
+            return userId == null ? null : PREFIX + userId;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param revokedAt keyOf(token) 에 저장된 값 (없으면 null)
+     * @return 토큰이 무효화 시각이 속한 초보다 앞서 발급되었으면 true (iat 를 읽을 수 없으면 무효로 본다)
+     */
+    boolean isRevoked(String token, String revokedAt) {
+        if (revokedAt == null) {
+            return false;
+        }
+        Long issuedAt = issuedAtOf(token);
+        return issuedAt == null || issuedAt * 1000L < truncateToSecond(toMillis(Long.parseLong(revokedAt)));
+    }
+
+    /** 이전 배포에서 epoch seconds 로 저장된 값도 millis 로 맞춘다. */
+    private static long toMillis(long revokedAt) {
+        return revokedAt < SECONDS_UPPER_BOUND ? revokedAt * 1000L : revokedAt;
+    }
+
+    private static long truncateToSecond(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, 1000L);
+    }
+
+    /** 서명 검증은 필터에서 이미 끝났으므로 payload 의 iat 만 읽는다. */
+    private Long issuedAtOf(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            JsonNode payload = objectMapper.readTree(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            JsonNode iat = payload.get("iat");
+            return iat != null && iat.canConvertToLong() ? iat.asLong() : null;
+        } catch (Exception e) {
+            log.debug("[tokenRevocation] cannot read iat. cause={}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -20,4 +20,19 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory);
         return factory;
     }
+
+    /**
+     * 배치 리스너용 컨테이너 팩토리
+     * - poll 한 번에 받은 메시지(max-poll-records)를 List 로 한꺼번에 전달
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MessageTpl>
+    batchKafkaListenerContainerFactory(ConsumerFactory<String, MessageTpl> consumerFactory) {
+
+        ConcurrentKafkaListenerContainerFactory<String, MessageTpl> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
 }
@@ -0,0 +1,101 @@
+package org.nextme.userservice.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 레플리카 중 한 곳에서만 배치 잡이 돌도록 하는 Redis 기반 리더 락
+ *
+ * - SET key token NX PX ttl 로 획득 (lease 방식: 프로세스가 죽어도 ttl 이후 자동 해제)
+ * - 갱신/해제는 token 이 일치할 때만 수행 (다른 레플리카가 새로 잡은 락을 지우지 않도록)
+ *
+ * 사용 예)
+ * <pre>
+ * try (JobLease lease = jobLock.tryAcquire("point-expiration", ttl).orElse(null)) {
+ *     if (lease == null) return;
+ *     ...
+ *     lease.renew();
+ * }
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String PREFIX = "lock:job:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락 획득 시도
+     * @return 획득 성공 시 JobLease, 이미 다른 곳에서 보유 중이면 empty
+     */
+    public Optional<JobLease> tryAcquire(String jobName, Duration ttl) {
+        String key = PREFIX + jobName;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return Optional.empty();
+        }
+        return Optional.of(new JobLease(key, token, ttl));
+    }
+
+    /**
+     * 획득한 락(lease)
+     * - close() 로 해제되므로 try-with-resources 로 사용
+     */
+    public final class JobLease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final Duration ttl;
+
+        private JobLease(String key, String token, Duration ttl) {
+            this.key = key;
+            this.token = token;
+            this.ttl = ttl;
+        }
+
+        /**
+         * lease 연장
+         * @return 여전히 락을 보유 중이면 true (ttl 만료로 다른 레플리카가 가져갔으면 false)
+         */
+        public boolean renew() {
+            Long result = redisTemplate.execute(
+                    RENEW_SCRIPT,
+                    List.of(key),
+                    token,
+                    Long.toString(ttl.toMillis())
+            );
+            return result != null && result == 1L;
+        }
+
+        @Override
+        public void close() {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 JDBC 커넥션 점유 시간 측정
+ *
+ * - Hikari 풀(DataSource)을 감싸 getConnection() ~ close() 구간을 db.connection.hold 타이머(히스토그램)로 기록한다.
+ *   (라우팅/지연 프록시가 아니라 실제 풀을 감싸므로 물리 커넥션 점유 시간만 잡힌다)
+ * - pool 태그: Hikari 풀 이름 (primary / replica 구분)
+ * - endpoint 태그: "HTTP 메서드 + 매핑 패턴" (예: "GET /v1/user/me"), 요청 밖(스케줄러/Kafka)은 "background"
+ * - Hikari 의 hikaricp.connections.usage 는 풀 전체 값이라, 어떤 API 가 커넥션을 오래 잡는지는 이 지표로 본다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "datasource.hold-time-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldTimeMetrics implements BeanPostProcessor {
+
+    static final String METRIC_NAME = "db.connection.hold";
+    static final String BACKGROUND = "background";
+
+    // BeanPostProcessor 는 일찍 생성되므로 MeterRegistry 는 처음 기록할 때 꺼낸다.
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimeMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            return new HoldTimeDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private void record(String pool, String endpoint, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+                .description("JDBC connection hold time per endpoint")
+                .tag("pool", pool)
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 현재 요청의 엔드포인트 (매핑 패턴 기준이라 path variable 로 태그가 늘어나지 않음) */
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return BACKGROUND;
+        }
+        Object pattern = servlet.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return servlet.getRequest().getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+
+    // ==========================
+    //  DataSource / Connection 래퍼
+    // ==========================
+
+    private final class HoldTimeDataSource extends DelegatingDataSource {
+
+        private final String pool;
+
+        private HoldTimeDataSource(HikariDataSource target) {
+            super(target);
+            this.pool = target.getPoolName() != null ? target.getPoolName() : "default";
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            String endpoint = currentEndpoint();
+            long acquiredAt = System.nanoTime();
+            boolean[] closed = {false};
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && !closed[0]) {
+                            closed[0] = true;
+                            record(pool, endpoint, System.nanoTime() - acquiredAt);
+                        }
+                        return invoke(connection, method, args);
+                    });
+        }
+
+        private Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import org.nextme.userservice.domain.repository.AuditEntry;
+import org.nextme.userservice.domain.repository.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AuditLogRepository 의 JDBC 구현
+ *
+ * - INSERT 는 JDBC batch (reWriteBatchedInserts 로 multi-row INSERT 로 전송됨)
+ * - 파티션 생성/삭제는 V13 마이그레이션의 함수(ensure_audit_log_partitions / drop_audit_log_partitions_before) 호출
+ */
+@Repository
+public class JdbcAuditLogRepository implements AuditLogRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schemaPrefix;
+
+    public JdbcAuditLogRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schemaPrefix = schema.isBlank() ? "" : schema + ".";
+    }
+
+    @Override
+    public void insertAll(List<AuditEntry> entries) {
+        String sql = "INSERT INTO " + schemaPrefix + "p_audit_log"
+                + " (id, occurred_at, action, actor_id, target_user_id, detail) VALUES (?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setObject(1, entry.id());
+            ps.setTimestamp(2, Timestamp.valueOf(entry.occurredAt()));
+            ps.setString(3, entry.action().name());
+            ps.setObject(4, entry.actorId());
+            ps.setObject(5, entry.targetUserId());
+            ps.setString(6, entry.detail());
+        });
+    }
+
+    @Override
+    public void ensurePartitions(LocalDate fromMonth, int months) {
+        jdbcTemplate.queryForList("SELECT " + schemaPrefix + "ensure_audit_log_partitions(?, ?)",
+                Date.valueOf(fromMonth), months);
+    }
+
+    @Override
+    public int dropPartitionsBefore(LocalDate beforeMonth) {
+        Integer dropped = jdbcTemplate.queryForObject(
+                "SELECT " + schemaPrefix + "drop_audit_log_partitions_before(?)",
+                Integer.class, Date.valueOf(beforeMonth));
+        return dropped == null ? 0 : dropped;
+    }
+}
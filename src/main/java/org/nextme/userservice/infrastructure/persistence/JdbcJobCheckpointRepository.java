@@ -0,0 +1,41 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import org.nextme.userservice.domain.repository.JobCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JobCheckpointRepository 의 JDBC 구현 (UPSERT)
+ */
+@Repository
+public class JdbcJobCheckpointRepository implements JobCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    public JdbcJobCheckpointRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = schema.isBlank() ? "p_job_checkpoint" : schema + ".p_job_checkpoint";
+    }
+
+    @Override
+    public Optional<String> find(String jobName) {
+        List<String> keys = jdbcTemplate.queryForList(
+                "SELECT last_key FROM " + table + " WHERE job_name = ?", String.class, jobName);
+        return keys.stream().filter(key -> key != null).findFirst();
+    }
+
+    @Override
+    public void save(String jobName, String lastKey) {
+        jdbcTemplate.update("INSERT INTO " + table + " (job_name, last_key, updated_at) VALUES (?, ?, now())"
+                + " ON CONFLICT (job_name) DO UPDATE SET last_key = EXCLUDED.last_key, updated_at = EXCLUDED.updated_at",
+                jobName, lastKey);
+    }
+}
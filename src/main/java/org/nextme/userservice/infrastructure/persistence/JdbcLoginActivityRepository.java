@@ -0,0 +1,53 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import org.nextme.userservice.domain.repository.LoginActivity;
+import org.nextme.userservice.domain.repository.LoginActivityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * LoginActivityRepository 의 JDBC 배치 구현
+ *
+ * - 엔티티를 로딩하지 않고 UPDATE 를 JDBC batch 로 묶어 보낸다. (batchSize 건당 1회 왕복)
+ * - user_id 순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 한다. (교착 방지)
+ */
+@Repository
+public class JdbcLoginActivityRepository implements LoginActivityRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+
+    public JdbcLoginActivityRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        String table = schema.isBlank() ? "p_user" : schema + ".p_user";
+        this.updateSql = "UPDATE " + table + """
+                 SET last_login_at = GREATEST(COALESCE(last_login_at, ?), ?),
+                     login_count = login_count + ?
+                 WHERE user_id = ?
+                """;
+    }
+
+    @Override
+    public void recordLogins(List<LoginActivity> activities) {
+        List<LoginActivity> sorted = activities.stream()
+                .sorted(Comparator.comparing(LoginActivity::userId))
+                .toList();
+        jdbcTemplate.batchUpdate(updateSql, sorted, BATCH_SIZE, (ps, activity) -> {
+            Timestamp lastLoginAt = Timestamp.valueOf(activity.lastLoginAt());
+            ps.setTimestamp(1, lastLoginAt);
+            ps.setTimestamp(2, lastLoginAt);
+            ps.setLong(3, activity.count());
+            ps.setObject(4, activity.userId());
+        });
+    }
+}
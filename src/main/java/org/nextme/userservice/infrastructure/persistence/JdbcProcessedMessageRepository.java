@@ -0,0 +1,55 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import org.nextme.userservice.domain.repository.ProcessedMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ProcessedMessageRepository 의 JDBC 구현 (PostgreSQL)
+ *
+ * - 키 묶음을 unnest 로 한 번에 INSERT 하고, ON CONFLICT DO NOTHING 으로 이미 있는 키는 건너뛴다.
+ * - RETURNING 으로 실제 INSERT 된 키만 돌려받는다. (동시에 같은 키를 넣는 트랜잭션은 PK 잠금에서 대기 후 건너뜀)
+ */
+@Repository
+public class JdbcProcessedMessageRepository implements ProcessedMessageRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    public JdbcProcessedMessageRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = schema.isBlank() ? "p_processed_message" : schema + ".p_processed_message";
+    }
+
+    @Override
+    public Set<String> markProcessed(String consumer, Collection<String> messageKeys) {
+        if (messageKeys.isEmpty()) {
+            return Set.of();
+        }
+        String[] keys = messageKeys.toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.query("INSERT INTO " + table + " (consumer, message_key, processed_at)"
+                        + " SELECT ?, k, now() FROM unnest(?) AS k"
+                        + " ON CONFLICT (consumer, message_key) DO NOTHING"
+                        + " RETURNING message_key",
+                ps -> {
+                    ps.setString(1, consumer);
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", keys));
+                },
+                (rs, rowNum) -> rs.getString("message_key")));
+    }
+
+    @Override
+    public int deleteProcessedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE processed_at < ?", Timestamp.valueOf(threshold));
+    }
+}
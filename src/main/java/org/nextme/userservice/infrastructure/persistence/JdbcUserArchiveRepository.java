@@ -0,0 +1,131 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.ArchiveCandidate;
+import org.nextme.userservice.domain.repository.UserArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * UserArchiveRepository 의 JDBC 구현 (PostgreSQL)
+ *
+ * - 아카이브: to_jsonb(행) 으로 user / profile / socialAccounts 를 payload 한 건에 담고 원본 행 삭제
+ * - 복원: jsonb_populate_record(set) 으로 원래 테이블의 행 타입 그대로 되돌린다.
+ *   (프로필 → 유저 → 소셜 계정 순서: p_user.profile_id FK 때문에 프로필이 먼저 있어야 함)
+ * - 후보 조회는 idx_user_archive_candidate (V14, DELETED/INACTIVE 만 색인한 partial index) 를 user_id 순으로 탄다.
+ * - 청크/복원 트랜잭션마다 SET LOCAL lock_timeout 을 걸어, 다른 요청이 잡은 잠금을 오래 기다리지 않고 실패시킨다.
+ *   (해당 청크만 롤백되고 다음 실행에서 다시 시도)
+ */
+@Repository
+public class JdbcUserArchiveRepository implements UserArchiveRepository {
+
+    private static final UUID MIN_USER_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schemaPrefix;
+    private final String setLockTimeoutSql;
+
+    public JdbcUserArchiveRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+            @Value("${user.archive.lock-timeout-ms:2000}") long lockTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schemaPrefix = schema.isBlank() ? "" : schema + ".";
+        this.setLockTimeoutSql = "SET LOCAL lock_timeout = '" + lockTimeoutMs + "ms'";
+    }
+
+    @Override
+    public List<ArchiveCandidate> lockCandidates(
+            UUID afterUserId,
+            LocalDateTime deletedBefore,
+            LocalDateTime inactiveBefore,
+            int limit
+    ) {
+        jdbcTemplate.execute(setLockTimeoutSql);
+        String sql = "SELECT u.user_id, u.status FROM " + schemaPrefix + "p_user u"
+                + " WHERE u.status IN ('DELETED', 'INACTIVE')"
+                + "   AND u.user_id > ?"
+                + "   AND ((u.status = 'DELETED' AND u.updated_at < ?)"
+                + "     OR (u.status = 'INACTIVE' AND COALESCE(u.last_login_at, u.updated_at) < ?))"
+                + "   AND NOT EXISTS (SELECT 1 FROM " + schemaPrefix + "p_point_reservation r"
+                + "                   WHERE r.user_id = u.user_id AND r.status = 'RESERVED')"
+                + " ORDER BY u.user_id"
+                + " LIMIT ?"
+                + " FOR UPDATE OF u SKIP LOCKED";
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new ArchiveCandidate(
+                        rs.getObject("user_id", UUID.class),
+                        UserStatus.valueOf(rs.getString("status"))),
+                afterUserId != null ? afterUserId : MIN_USER_ID,
+                Timestamp.valueOf(deletedBefore),
+                Timestamp.valueOf(inactiveBefore),
+                limit);
+    }
+
+    @Override
+    public void archive(List<UUID> userIds, LocalDateTime archivedAt) {
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        jdbcTemplate.update("INSERT INTO " + schemaPrefix + "p_user_archive"
+                + " (user_id, user_name, status, archived_at, payload)"
+                + " SELECT u.user_id, u.user_name, u.status, ?, jsonb_build_object("
+                + "   'user', to_jsonb(u),"
+                + "   'profile', (SELECT to_jsonb(p) FROM " + schemaPrefix + "p_user_profile p WHERE p.user_id = u.profile_id),"
+                + "   'socialAccounts', COALESCE((SELECT jsonb_agg(to_jsonb(s)) FROM " + schemaPrefix + "social_account s"
+                + "                               WHERE s.user_id = u.user_id), '[]'::jsonb))"
+                + " FROM " + schemaPrefix + "p_user u WHERE u.user_id = ANY (?)",
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(archivedAt));
+                    ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+                });
+        deleteByUserIds("social_account", ids);
+        // p_user → p_user_profile 순서 (FK)
+        List<UUID> profileIds = jdbcTemplate.query(
+                "DELETE FROM " + schemaPrefix + "p_user WHERE user_id = ANY (?) RETURNING profile_id",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+                (rs, rowNum) -> rs.getObject("profile_id", UUID.class));
+        UUID[] profiles = profileIds.stream().filter(id -> id != null).toArray(UUID[]::new);
+        if (profiles.length > 0) {
+            deleteByUserIds("p_user_profile", profiles);
+        }
+    }
+
+    @Override
+    public Optional<String> restore(UUID userId) {
+        jdbcTemplate.execute(setLockTimeoutSql);
+        List<String> archived = jdbcTemplate.queryForList(
+                "SELECT user_name FROM " + schemaPrefix + "p_user_archive WHERE user_id = ? FOR UPDATE",
+                String.class, userId);
+        if (archived.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String archive = schemaPrefix + "p_user_archive a";
+        jdbcTemplate.update("INSERT INTO " + schemaPrefix + "p_user_profile"
+                + " SELECT r.* FROM " + archive + ", jsonb_populate_record(NULL::" + schemaPrefix + "p_user_profile,"
+                + " a.payload -> 'profile') r"
+                + " WHERE a.user_id = ? AND jsonb_typeof(a.payload -> 'profile') = 'object'", userId);
+        jdbcTemplate.update("INSERT INTO " + schemaPrefix + "p_user"
+                + " SELECT r.* FROM " + archive + ", jsonb_populate_record(NULL::" + schemaPrefix + "p_user,"
+                + " a.payload -> 'user') r"
+                + " WHERE a.user_id = ?", userId);
+        jdbcTemplate.update("INSERT INTO " + schemaPrefix + "social_account"
+                + " SELECT r.* FROM " + archive + ", jsonb_populate_recordset(NULL::" + schemaPrefix + "social_account,"
+                + " a.payload -> 'socialAccounts') r"
+                + " WHERE a.user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM " + schemaPrefix + "p_user_archive WHERE user_id = ?", userId);
+        return Optional.of(archived.get(0));
+    }
+
+    private void deleteByUserIds(String table, UUID[] ids) {
+        jdbcTemplate.update("DELETE FROM " + schemaPrefix + table + " WHERE user_id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)));
+    }
+}
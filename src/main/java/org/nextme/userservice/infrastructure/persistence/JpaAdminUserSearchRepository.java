@@ -0,0 +1,200 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+import org.nextme.userservice.domain.AdvisorStatus;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.AdminUserField;
+import org.nextme.userservice.domain.repository.AdminUserRow;
+import org.nextme.userservice.domain.repository.AdminUserSearchCondition;
+import org.nextme.userservice.domain.repository.AdminUserSearchRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * AdminUserSearchRepository 의 native SQL 구현
+ *
+ * - 들어온 조건만 WHERE 절에 붙인다. (JpaAdvisorDirectoryRepository 와 같은 이유)
+ * - SELECT 절도 요청한 필드(AdminUserField)의 컬럼만 나열한다.
+ * - 인덱스 (V11__create_admin_user_search_index.sql)
+ *   - idx_user_created_at_id / idx_user_status_created_at_id / idx_user_role_created_at_id : 정렬 + keyset
+ *   - idx_user_user_name_prefix / idx_user_name_prefix : lower(col) text_pattern_ops (앞부분 검색)
+ * - 건수 추정: EXPLAIN (FORMAT JSON) 의 최상위 "Plan Rows"
+ *   (조건이 없으면 ANALYZE 통계의 테이블 행 수, 조건이 있으면 선택도까지 반영한 추정치. 실행은 하지 않음)
+ */
+@Slf4j
+@Repository
+public class JpaAdminUserSearchRepository implements AdminUserSearchRepository {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AdminUserRow> search(
+            AdminUserSearchCondition condition,
+            Set<AdminUserField> fields,
+            LocalDateTime afterCreatedAt,
+            UUID afterUserId,
+            int limit
+    ) {
+        // 커서용 user_id / created_at + 요청한 필드의 컬럼만 조회
+        EnumSet<AdminUserField> selected = EnumSet.of(AdminUserField.USER_ID, AdminUserField.CREATED_AT);
+        selected.addAll(fields);
+        String columns = selected.stream()
+                .map(field -> "u." + field.column())
+                .collect(Collectors.joining(", "));
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append('\n').append("""
+                FROM {h-schema}p_user u
+                WHERE 1 = 1
+                """);
+        appendConditions(sql, params, condition);
+
+        if (afterCreatedAt != null && afterUserId != null) {
+            // 가입일 DESC, user_id DESC 기준 "다음" 행
+            sql.append("  AND (u.created_at, u.user_id) < (:afterCreatedAt, :afterUserId)\n");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterUserId", afterUserId);
+        }
+        sql.append("ORDER BY u.created_at DESC, u.user_id DESC\n")
+                .append("LIMIT :limit");
+        params.put("limit", limit);
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class);
+        for (AdminUserField field : selected) {
+            query.addScalar(field.column(), scalarType(field));
+        }
+        params.forEach(query::setParameter);
+
+        return query.getResultList().stream()
+                .map(row -> toRow(selected, row))
+                .toList();
+    }
+
+    @Override
+    public Long estimateCount(AdminUserSearchCondition condition) {
+        try {
+            Map<String, Object> params = new LinkedHashMap<>();
+            StringBuilder sql = new StringBuilder("""
+                    EXPLAIN (FORMAT JSON)
+                    SELECT 1 FROM {h-schema}p_user u
+                    WHERE 1 = 1
+                    """);
+            appendConditions(sql, params, condition);
+
+            var query = entityManager.createNativeQuery(sql.toString());
+            params.forEach(query::setParameter);
+            Matcher matcher = PLAN_ROWS.matcher(String.valueOf(query.getSingleResult()));
+            return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+        } catch (RuntimeException e) {
+            // 추정치는 부가 정보이므로 실패해도 검색은 계속한다.
+            log.debug("[adminUserSearch] count estimate failed. cause={}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<UUID> findUserIdsAfter(AdminUserSearchCondition condition, UUID afterUserId, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("""
+                SELECT u.user_id FROM {h-schema}p_user u
+                WHERE 1 = 1
+                """);
+        appendConditions(sql, params, condition);
+        if (afterUserId != null) {
+            sql.append("  AND u.user_id > :afterUserId\n");
+            params.put("afterUserId", afterUserId);
+        }
+        sql.append("ORDER BY u.user_id\n")
+                .append("LIMIT :limit");
+        params.put("limit", limit);
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<UUID> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class);
+        query.addScalar("user_id", UUID.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private static Class<?> scalarType(AdminUserField field) {
+        return switch (field) {
+            case USER_ID -> UUID.class;
+            case CREATED_AT -> LocalDateTime.class;
+            default -> String.class;
+        };
+    }
+
+    /** SELECT 순서(EnumSet 순서)대로 값을 꺼내 행으로 변환. 조회하지 않은 필드는 null */
+    private static AdminUserRow toRow(Set<AdminUserField> selected, Object[] row) {
+        Map<AdminUserField, Object> values = new EnumMap<>(AdminUserField.class);
+        int index = 0;
+        for (AdminUserField field : selected) {
+            values.put(field, row[index++]);
+        }
+        return new AdminUserRow(
+                (UUID) values.get(AdminUserField.USER_ID),
+                (String) values.get(AdminUserField.USER_NAME),
+                (String) values.get(AdminUserField.NAME),
+                enumOrNull(UserRole.class, values.get(AdminUserField.ROLE)),
+                enumOrNull(UserStatus.class, values.get(AdminUserField.STATUS)),
+                enumOrNull(AdvisorStatus.class, values.get(AdminUserField.ADVISOR_STATUS)),
+                (LocalDateTime) values.get(AdminUserField.CREATED_AT)
+        );
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, Object value) {
+        return value == null ? null : Enum.valueOf(type, (String) value);
+    }
+
+    private void appendConditions(StringBuilder sql, Map<String, Object> params, AdminUserSearchCondition condition) {
+        if (condition.status() != null) {
+            sql.append("  AND u.status = :status\n");
+            params.put("status", condition.status().name());
+        }
+        if (condition.role() != null) {
+            sql.append("  AND u.role = :role\n");
+            params.put("role", condition.role().name());
+        }
+        if (condition.advisorStatus() != null) {
+            sql.append("  AND u.advisor_status = :advisorStatus\n");
+            params.put("advisorStatus", condition.advisorStatus().name());
+        }
+        if (condition.userNamePrefix() != null) {
+            sql.append("  AND lower(u.user_name) LIKE :userNamePrefix ESCAPE '\\'\n");
+            params.put("userNamePrefix", prefixPattern(condition.userNamePrefix()));
+        }
+        if (condition.namePrefix() != null) {
+            sql.append("  AND lower(u.name) LIKE :namePrefix ESCAPE '\\'\n");
+            params.put("namePrefix", prefixPattern(condition.namePrefix()));
+        }
+    }
+
+    /** 앞부분 일치 패턴 (소문자 + LIKE 특수문자 이스케이프) */
+    private static String prefixPattern(String prefix) {
+        return prefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,100 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryCondition;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryEntry;
+import org.nextme.userservice.domain.repository.AdvisorDirectoryRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AdvisorDirectoryRepository 의 native SQL 구현
+ *
+ * - "(:category IS NULL OR ...)" 형태의 만능 쿼리는 PostgreSQL generic plan 에서 인덱스를 못 타므로,
+ *   실제로 들어온 조건만 WHERE 절에 붙인다.
+ * - 프로필(p_user_profile) 인덱스로 정렬/필터 후 p_user 를 PK 로 조인해 role/status 를 확인한다.
+ *   (프로필 PK = 유저 PK 이므로 profile_id 대신 user_id 로 조인)
+ * - 인덱스 (V8__split_user_profile.sql, 공개 프로필만 색인하는 partial index)
+ *   - idx_user_profile_dir_career   : (경력 DESC, user_id)            → 카테고리 없는 목록
+ *   - idx_user_profile_dir_category : (카테고리, 경력 DESC, user_id)   → 카테고리 목록
+ *   - idx_user_profile_dir_intro    : intro trigram (GIN)             → 소개 검색
+ */
+@Repository
+public class JpaAdvisorDirectoryRepository implements AdvisorDirectoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AdvisorDirectoryEntry> search(
+            AdvisorDirectoryCondition condition,
+            Integer afterCareerYears,
+            UUID afterUserId,
+            int limit
+    ) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT u.user_id, u.name, p.main_category, p.intro, p.career_years
+                FROM {h-schema}p_user_profile p
+                JOIN {h-schema}p_user u ON u.user_id = p.user_id
+                WHERE p.active = true
+                  AND p.career_years >= :minCareerYears
+                  AND u.role = 'ADVISOR'
+                  AND u.status = 'ACTIVE'
+                """);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("minCareerYears", condition.minCareerYears());
+
+        if (condition.category() != null) {
+            sql.append("  AND p.main_category = :category\n");
+            params.put("category", condition.category());
+        }
+        if (condition.keyword() != null) {
+            sql.append("  AND p.intro ILIKE :keyword ESCAPE '\\'\n");
+            params.put("keyword", "%" + escapeLike(condition.keyword()) + "%");
+        }
+        if (afterCareerYears != null && afterUserId != null) {
+            // 경력 DESC, user_id ASC 기준 "다음" 행
+            sql.append("  AND (p.career_years < :afterCareerYears")
+                    .append(" OR (p.career_years = :afterCareerYears AND p.user_id > :afterUserId))\n");
+            params.put("afterCareerYears", afterCareerYears);
+            params.put("afterUserId", afterUserId);
+        }
+        sql.append("ORDER BY p.career_years DESC, p.user_id\n")
+                .append("LIMIT :limit");
+        params.put("limit", limit);
+
+        // 컬럼 타입을 명시해 DB 드라이버별 반환 타입 차이(uuid 등)를 Hibernate 가 맞춰준다.
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("user_id", UUID.class)
+                .addScalar("name", String.class)
+                .addScalar("main_category", String.class)
+                .addScalar("intro", String.class)
+                .addScalar("career_years", Integer.class);
+        params.forEach(query::setParameter);
+
+        return query.getResultList().stream()
+                .map(row -> new AdvisorDirectoryEntry(
+                        (UUID) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        (Integer) row[4]
+                ))
+                .toList();
+    }
+
+    /** LIKE 패턴 특수문자(\, %, _) 이스케이프 */
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
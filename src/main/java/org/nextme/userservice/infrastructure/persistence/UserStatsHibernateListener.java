@@ -0,0 +1,194 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.nextme.userservice.domain.User;
+import org.nextme.userservice.infrastructure.cache.RedisUserStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * User 상태 전이를 대시보드 통계(RedisUserStats)에 증분 반영하는 Hibernate 이벤트 리스너
+ *
+ * - 가입(createLocalUser / createWithSocial → INSERT), changeRole / changeStatus / changeAdvisorStatus(→ UPDATE),
+ *   삭제(DELETE) 를 엔티티 단위로 잡는다.
+ *   - UPDATE 는 로딩 시점 값(oldState)과 비교해 바뀐 항목만 -1 / +1
+ * - 트랜잭션 하나의 변경을 모아 커밋 후 HINCRBY 파이프라인 1회로 반영한다. (롤백되면 버림)
+ * - 벌크 UPDATE / JDBC 변경은 이 리스너를 타지 않으므로 UserBulkChangedEvent 로 재계산을 요청한다.
+ *   (UserStatsBulkChangeListener → UserStatsReconcileJob)
+ * - Redis 반영에 실패하면 로그만 남기고, 차이는 주기 재계산에서 맞춘다.
+ */
+@Slf4j
+@Component
+public class UserStatsHibernateListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String[] TRACKED = {"role", "status", "advisorStatus"};
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisUserStats userStats;
+
+    public UserStatsHibernateListener(EntityManagerFactory entityManagerFactory, RedisUserStats userStats) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.userStats = userStats;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User) {
+            apply(event.getPersister(), event.getState(), 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            apply(event.getPersister(), event.getDeletedState(), -1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof User) || event.getOldState() == null) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Deltas deltas = new Deltas();
+        for (String property : TRACKED) {
+            int index = indexOf(names, property);
+            Object before = event.getOldState()[index];
+            Object after = event.getState()[index];
+            if (!Objects.equals(before, after)) {
+                deltas.count(field(property, before), -1);
+                deltas.count(field(property, after), 1);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            publish(deltas);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // ==========================
+    //  내부
+    // ==========================
+
+    /** 행 전체가 생기거나(+1) 없어질 때(-1) */
+    private void apply(EntityPersister persister, Object[] state, int sign) {
+        String[] names = persister.getPropertyNames();
+        Deltas deltas = new Deltas();
+        deltas.count(RedisUserStats.TOTAL, sign);
+        for (String property : TRACKED) {
+            deltas.count(field(property, state[indexOf(names, property)]), sign);
+        }
+        Object createdAt = state[indexOf(names, "createdAt")];
+        LocalDate day = createdAt instanceof LocalDateTime time ? time.toLocalDate() : LocalDate.now();
+        deltas.signup(day.toString(), sign);
+        publish(deltas);
+    }
+
+    /** 트랜잭션 안이면 커밋 후 한 번에, 아니면 바로 반영 */
+    private void publish(Deltas deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(deltas);
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof FlushOnCommit pending && pending.owner() == this) {
+                pending.deltas().merge(deltas);
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new FlushOnCommit(this, deltas));
+    }
+
+    private void flush(Deltas deltas) {
+        try {
+            userStats.increment(deltas.counts(), deltas.signups());
+        } catch (RuntimeException e) {
+            log.warn("[userStats] increment failed. will be fixed by reconciliation. cause={}", e.getMessage());
+        }
+    }
+
+    private static String field(String property, Object value) {
+        String name = String.valueOf(value);
+        return switch (property) {
+            case "role" -> RedisUserStats.roleField(name);
+            case "status" -> RedisUserStats.statusField(name);
+            default -> RedisUserStats.advisorStatusField(name);
+        };
+    }
+
+    private static int indexOf(String[] names, String property) {
+        int index = Arrays.asList(names).indexOf(property);
+        if (index < 0) {
+            throw new IllegalStateException("User has no property: " + property);
+        }
+        return index;
+    }
+
+    private record FlushOnCommit(UserStatsHibernateListener owner, Deltas deltas) implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            owner.flush(deltas);
+        }
+    }
+
+    private record Deltas(Map<String, Long> counts, Map<String, Long> signups) {
+
+        Deltas() {
+            this(new HashMap<>(), new HashMap<>());
+        }
+
+        void count(String field, long delta) {
+            counts.merge(field, delta, Long::sum);
+        }
+
+        void signup(String day, long delta) {
+            signups.merge(day, delta, Long::sum);
+        }
+
+        void merge(Deltas other) {
+            other.counts.forEach(this::count);
+            other.signups.forEach(this::signup);
+        }
+
+        boolean isEmpty() {
+            return counts.isEmpty();
+        }
+    }
+}
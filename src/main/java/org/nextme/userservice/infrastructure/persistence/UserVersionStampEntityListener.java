@@ -0,0 +1,77 @@
+package org.nextme.userservice.infrastructure.persistence;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.nextme.userservice.domain.User;
+import org.nextme.userservice.domain.UserProfile;
+import org.nextme.userservice.infrastructure.cache.RedisUserVersionStamp;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * User / UserProfile 변경 시 version 스탬프 캐시 갱신 (JPA 엔티티 리스너)
+ *
+ * - 엔티티를 거치는 모든 수정(프로필 포함)을 한 곳에서 잡는다.
+ *   벌크 UPDATE 는 리스너를 타지 않으므로 이벤트로 처리한다. (UserVersionStampEventListener)
+ * - 커밋 후 반영한다.
+ *   - User 수정: 커밋된 새 version 으로 올림 (raise)
+ *   - User 삭제 / 프로필 수정: 새 version 을 모르므로 표식을 남김 (invalidate)
+ *     (프로필 수정 시 User.version 은 커밋 직전 OPTIMISTIC_FORCE_INCREMENT 로 올라간다)
+ * - 새로 저장된 유저는 캐시된 적이 없으므로 처리하지 않는다. (가져오기 등 대량 INSERT 시 Redis 호출 없음)
+ * - Hibernate 가 SpringBeanContainer 로 생성하므로 생성자 주입을 쓴다.
+ *   (Redis 빈이 없는 슬라이스 테스트에서도 생성되도록 ObjectProvider)
+ */
+public class UserVersionStampEntityListener {
+
+    private final ObjectProvider<RedisUserVersionStamp> versionStamp;
+
+    public UserVersionStampEntityListener(ObjectProvider<RedisUserVersionStamp> versionStamp) {
+        this.versionStamp = versionStamp;
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof User user) {
+            // 커밋 시점의 version (같은 트랜잭션의 이후 증가분까지 포함)
+            afterCommit(entity, stamp -> stamp.raise(user.getId().getId(), user.getVersion()));
+        } else {
+            afterCommit(entity, stamp -> stamp.invalidate(userIdOf(entity)));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        afterCommit(entity, stamp -> stamp.invalidate(userIdOf(entity)));
+    }
+
+    private void afterCommit(Object entity, Consumer<RedisUserVersionStamp> action) {
+        RedisUserVersionStamp stamp = versionStamp.getIfAvailable();
+        if (userIdOf(entity) == null || stamp == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(stamp);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.accept(stamp);
+            }
+        });
+    }
+
+    private UUID userIdOf(Object entity) {
+        if (entity instanceof User user && user.getId() != null) {
+            return user.getId().getId();
+        }
+        if (entity instanceof UserProfile profile && profile.getId() != null) {
+            return profile.getId().getId();
+        }
+        return null;
+    }
+}
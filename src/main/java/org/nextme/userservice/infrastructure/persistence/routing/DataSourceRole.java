@@ -0,0 +1,9 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+/**
+ * 라우팅 대상 커넥션 풀
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
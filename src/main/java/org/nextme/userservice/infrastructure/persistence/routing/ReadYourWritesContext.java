@@ -0,0 +1,92 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 요청 단위 read-your-writes 상태 (ThreadLocal)
+ *
+ * - 요청 시작 시 현재 유저와 "최근 쓰기 여부 조회 함수"를 묶어 두고, 처음 필요할 때 한 번만 조회한다.
+ *   (읽기 트랜잭션이 없는 요청은 Redis 를 조회하지 않음)
+ * - 같은 요청 안에서 쓰기 트랜잭션이 커밋되면 이후 읽기는 모두 primary 로 보낸다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void begin(String userId, BooleanSupplier recentWriteLookup) {
+        CURRENT.set(new State(userId, recentWriteLookup));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /** 현재 요청의 유저 (인증되지 않은 요청 / 요청 밖이면 null) */
+    public static String currentUserId() {
+        State state = CURRENT.get();
+        return state != null ? state.userId : null;
+    }
+
+    /** 현재 요청 유저가 stickiness 구간 안에 있는지 (primary 에서 읽어야 하는지) */
+    public static boolean isSticky() {
+        State state = CURRENT.get();
+        if (state == null) {
+            return false;
+        }
+        if (state.sticky == null) {
+            state.sticky = state.recentWriteLookup.getAsBoolean();
+        }
+        return state.sticky;
+    }
+
+    /**
+     * 같은 요청의 나머지 읽기를 primary 로 보낸다. (쓰기 기록은 남기지 않음)
+     * - 다른 유저/배치가 쓴 변경까지 바로 보여야 하는 조회에서 readOnly 트랜잭션 시작 전에 호출
+     */
+    public static void readFromPrimary() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.sticky = true;
+        }
+    }
+
+    /** 쓰기 커밋 이후: 같은 요청의 나머지 읽기는 primary 로 */
+    static void markWritten() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.sticky = true;
+        }
+    }
+
+    /** 현재 트랜잭션에서 쓰기 추적을 처음 등록하는 경우에만 true */
+    static boolean claimWriteTracking() {
+        State state = CURRENT.get();
+        if (state == null || state.writeTracking) {
+            return false;
+        }
+        state.writeTracking = true;
+        return true;
+    }
+
+    static void releaseWriteTracking() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.writeTracking = false;
+        }
+    }
+
+    private static final class State {
+        private final String userId;
+        private final BooleanSupplier recentWriteLookup;
+        private Boolean sticky;
+        private boolean writeTracking;
+
+        private State(String userId, BooleanSupplier recentWriteLookup) {
+            this.userId = userId;
+            this.recentWriteLookup = recentWriteLookup;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 유저별 "최근 쓰기" 기록 (Redis, 레플리카 인스턴스 간 공유)
+ *
+ * - 쓰기 커밋 후 window 동안 키를 남겨, 그 유저의 읽기를 primary 로 보낸다.
+ * - Redis 조회 실패 시에는 안전하게 "최근 쓰기 있음"으로 본다. (primary 로 읽기)
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String PREFIX = "rw:recent-write:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    public void markWrite(String userId) {
+        try {
+            redisTemplate.opsForValue().set(PREFIX + userId, "1", window);
+        } catch (RuntimeException e) {
+            log.warn("[replica] failed to record recent write. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    public boolean hasRecentWrite(String userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + userId));
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+}
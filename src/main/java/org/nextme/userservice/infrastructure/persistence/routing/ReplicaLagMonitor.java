@@ -0,0 +1,63 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 레플리카 복제 지연 감시
+ *
+ * - 주기적으로 레플리카에서 지연(초)을 조회해, 허용치 이하일 때만 읽기 트랜잭션을 레플리카로 보낸다.
+ * - 조회 실패(레플리카 다운/네트워크 오류)도 사용 불가로 보고 primary 로 대체한다.
+ * - 첫 확인 전에는 사용 불가 상태로 시작한다. (빈 생성 직후 1회 확인)
+ *
+ * 메트릭
+ * - datasource.replica.lag.seconds : 마지막으로 확인한 복제 지연 (확인 실패 시 NaN)
+ * - datasource.replica.usable      : 1 = 레플리카 사용, 0 = primary 대체
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile double lastLagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        meterRegistry.gauge("datasource.replica.lag.seconds", this, m -> m.lastLagSeconds);
+        meterRegistry.gauge("datasource.replica.usable", this, m -> m.usable ? 1 : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}")
+    public void refresh() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lastLagSeconds = lag != null ? lag : Double.NaN;
+            boolean nowUsable = lag != null && lag <= maxLagSeconds;
+            if (nowUsable != usable) {
+                log.info("[replica] usable changed. usable={}, lagSeconds={}", nowUsable, lag);
+            }
+            usable = nowUsable;
+        } catch (RuntimeException e) {
+            if (usable) {
+                log.warn("[replica] lag check failed. falling back to primary. cause={}", e.getMessage());
+            }
+            lastLagSeconds = Double.NaN;
+            usable = false;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+}
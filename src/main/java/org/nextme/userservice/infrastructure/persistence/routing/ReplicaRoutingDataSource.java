@@ -0,0 +1,88 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * readOnly 트랜잭션은 레플리카, 그 외는 primary 로 보내는 라우팅 DataSource
+ *
+ * - 트랜잭션 시작 시점이 아니라 실제 커넥션을 얻는 시점에 판단하므로
+ *   반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다. (readOnly 플래그가 먼저 설정되어야 함)
+ * - readOnly 라도 아래 경우는 primary 로 보낸다.
+ *   1) 현재 유저가 최근(read-your-writes 구간 안)에 쓰기를 커밋한 경우
+ *   2) 레플리카 지연이 허용치를 넘었거나 확인에 실패한 경우
+ * - 쓰기 트랜잭션이 커밋되면 현재 유저를 onUserWrite 로 알린다. (stickiness 기록)
+ *
+ * 메트릭
+ * - datasource.routing{target, reason}: 라우팅 결정 횟수
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Consumer<String> onUserWrite;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            Consumer<String> onUserWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.onUserWrite = onUserWrite;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return route(DataSourceRole.PRIMARY, "write");
+        }
+        if (ReadYourWritesContext.isSticky()) {
+            return route(DataSourceRole.PRIMARY, "read_your_writes");
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            return route(DataSourceRole.PRIMARY, "replica_unavailable");
+        }
+        return route(DataSourceRole.REPLICA, "read");
+    }
+
+    private DataSourceRole route(DataSourceRole target, String reason) {
+        meterRegistry.counter("datasource.routing",
+                "target", target.name().toLowerCase(), "reason", reason).increment();
+        return target;
+    }
+
+    /** 요청 유저의 쓰기 트랜잭션이면 커밋 이후 stickiness 를 기록하도록 등록 (트랜잭션당 1회) */
+    private void trackWrite() {
+        String userId = ReadYourWritesContext.currentUserId();
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !ReadYourWritesContext.claimWriteTracking()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWritten();
+                onUserWrite.accept(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                ReadYourWritesContext.releaseWriteTracking();
+            }
+        });
+    }
+}
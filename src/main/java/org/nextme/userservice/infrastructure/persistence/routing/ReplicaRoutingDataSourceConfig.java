@@ -0,0 +1,107 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary / replica 커넥션 풀 + readOnly 라우팅 설정
+ *
+ * - datasource.replica.enabled=true 일 때만 활성화 (기본은 Boot 자동 설정 단일 DataSource)
+ * - primary: spring.datasource.* + spring.datasource.hikari.*
+ * - replica: datasource.replica.url/username/password + datasource.replica.hikari.*
+ * - 애플리케이션(JPA/Flyway)이 쓰는 dataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingDataSourceConfig {
+
+    /** 복제 지연(초) 조회: 재생할 WAL 이 없으면 0, 있으면 마지막 재생 트랜잭션 이후 경과 시간 */
+    static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username}") String username,
+            @Value("${datasource.replica.password}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("user-service-replica-hikari");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaLagMonitor monitor =
+                new ReplicaLagMonitor(replica, POSTGRES_LAG_QUERY, Duration.ofMillis(maxLagMs), meterRegistry);
+        monitor.refresh();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            StringRedisTemplate redisTemplate,
+            @Value("${datasource.replica.read-your-writes-window-ms:5000}") long windowMs
+    ) {
+        return new ReadYourWritesTracker(redisTemplate, Duration.ofMillis(windowMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replica, replicaLagMonitor, readYourWritesTracker::markWrite, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /** 인증된 요청마다 read-your-writes 컨텍스트를 연다. */
+    @Bean
+    public WebMvcConfigurer readYourWritesWebMvcConfigurer(ReadYourWritesTracker readYourWritesTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker));
+            }
+        };
+    }
+}
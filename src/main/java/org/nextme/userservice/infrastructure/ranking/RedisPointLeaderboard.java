@@ -0,0 +1,139 @@
+package org.nextme.userservice.infrastructure.ranking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 포인트 랭킹 Redis Sorted Set 저장소
+ *
+ * - member: userId(UUID 문자열), score: 누적 포인트
+ * - 포인트가 0 인 유저는 랭킹에서 제외한다. (수백만 건의 0점 멤버로 메모리를 낭비하지 않도록)
+ * - 순위 조회는 ZREVRANK / ZREVRANGE 만 사용하므로 O(log n) 이며 DB 를 조회하지 않는다.
+ *
+ * 재구성(rebuild)
+ * - 임시 키에 청크 단위로 ZADD 후 RENAME 으로 원자적으로 교체한다.
+ * - 재구성 도중 들어온 포인트 변경은 임시 키에도 같이 반영한다. (UPDATE_SCRIPT 참고)
+ *   - 임시 키는 시작 시 sentinel 멤버로 미리 만들어 두므로 첫 청크 이전의 변경도 놓치지 않는다.
+ *   - 청크는 ZADD NX 로 넣는다: DB 에서 읽은 값보다 늦게 들어온 실시간 변경이 이미 있으면 덮어쓰지 않음
+ *   - 재구성 중 0점이 된 유저는 임시 키에 0점으로 남겨(tombstone) 이후 청크가 다시 넣지 못하게 하고,
+ *     교체 직전에 0점 이하 멤버(sentinel 포함)를 한 번에 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPointLeaderboard {
+
+    // 두 키를 한 스크립트(RENAME 등)에서 함께 쓰므로 Redis Cluster 에서 같은 슬롯이 되도록 hash tag 를 맞춘다.
+    private static final String KEY = "{ranking:point}";
+    private static final String REBUILD_KEY = "{ranking:point}:rebuild";
+    private static final String REBUILD_SENTINEL = "__rebuild__";
+
+    /**
+     * 라이브 키 + (재구성 중이라면) 임시 키에 한 번의 왕복으로 점수 반영
+     * - ARGV[1]: score, ARGV[2]: member
+     * - score 가 0 이하이면 라이브 키에서는 ZREM, 임시 키에는 0점(tombstone)으로 기록
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local score = tonumber(ARGV[1])
+            if score > 0 then
+                redis.call('ZADD', KEYS[1], score, ARGV[2])
+            else
+                redis.call('ZREM', KEYS[1], ARGV[2])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZADD', KEYS[2], math.max(score, 0), ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 완료: 0점 이하 멤버(sentinel / tombstone) 제거 후 임시 키를 라이브 키로 교체
+     * - KEYS[1]: 임시 키, KEYS[2]: 라이브 키
+     */
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+            if redis.call('ZCARD', KEYS[1]) > 0 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                return 1
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /** 유저의 현재 누적 포인트를 랭킹에 반영 (절대값 기준이라 중복 호출해도 안전) */
+    public void updateScore(UUID userId, long point) {
+        redisTemplate.execute(
+                UPDATE_SCRIPT,
+                List.of(KEY, REBUILD_KEY),
+                Long.toString(point),
+                userId.toString()
+        );
+    }
+
+    /** 상위 N명 (score 내림차순) */
+    public Set<ZSetOperations.TypedTuple<String>> top(int size) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, size - 1L);
+    }
+
+    /** 0-based 순위 (랭킹에 없으면 null) */
+    public Long reverseRank(UUID userId) {
+        return redisTemplate.opsForZSet().reverseRank(KEY, userId.toString());
+    }
+
+    /** 0-based 순위 구간 [start, end] 조회 */
+    public Set<ZSetOperations.TypedTuple<String>> range(long start, long end) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(KEY, start, end);
+    }
+
+    /** 라이브 키가 있는지 (없으면 재구성 전이거나 포인트를 가진 유저가 없음) */
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY));
+    }
+
+    /** 유저의 랭킹 점수 (랭킹에 없으면 null) */
+    public Double score(UUID userId) {
+        return redisTemplate.opsForZSet().score(KEY, userId.toString());
+    }
+
+    // ==========================
+    //  재구성(rebuild)
+    // ==========================
+
+    /**
+     * 재구성 시작: 이전에 중단된 임시 키를 비우고, sentinel 로 임시 키를 미리 만든다.
+     * (첫 DB 조회 전부터 실시간 변경이 임시 키에 반영되도록)
+     */
+    public void beginRebuild() {
+        redisTemplate.delete(REBUILD_KEY);
+        redisTemplate.opsForZSet().add(REBUILD_KEY, REBUILD_SENTINEL, 0);
+    }
+
+    /** 재구성 청크 적재 (청크당 ZADD NX 1회, 이미 실시간 변경으로 들어온 멤버는 건너뜀) */
+    public void appendToRebuild(Collection<ZSetOperations.TypedTuple<String>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().addIfAbsent(REBUILD_KEY, new HashSet<>(entries));
+    }
+
+    /** 재구성 완료: 임시 키를 라이브 키로 원자적 교체 (포인트를 가진 유저가 없으면 라이브 키 삭제) */
+    public void commitRebuild() {
+        redisTemplate.execute(COMMIT_SCRIPT, List.of(REBUILD_KEY, KEY));
+    }
+
+    /** 재구성 실패 시 임시 키 정리 */
+    public void abortRebuild() {
+        redisTemplate.delete(REBUILD_KEY);
+    }
+}
@@ -0,0 +1,93 @@
+package org.nextme.userservice.infrastructure.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.application.error.ErrorCode;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnOptimisticLock} 처리 Aspect
+ *
+ * - 트랜잭션 Advisor(LOWEST_PRECEDENCE) 보다 바깥에서 실행되도록 순서를 한 단계 앞에 둔다.
+ *   (재시도 = 이전 트랜잭션 롤백 후 새 트랜잭션)
+ * - 메트릭
+ *   - user.optimistic_lock.conflicts{method}: 충돌 발생 횟수 (재시도 여부와 무관, 핫스팟 확인용)
+ *   - user.optimistic_lock.exhausted{method}: 재시도를 모두 쓰고 409 로 끝난 횟수
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retry) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        // 바깥 트랜잭션에 참여 중이면 여기서 재시도할 수 없다 → 충돌만 기록하고 그대로 전파
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts(method).increment();
+                throw e;
+            }
+        }
+
+        int maxAttempts = Math.max(retry.maxAttempts(), 1);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts(method).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("user.optimistic_lock.exhausted", "method", method).increment();
+                    log.warn("[optimisticLock] retry exhausted. method={}, attempts={}", method, attempt);
+                    throw toAppException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+                }
+                log.debug("[optimisticLock] conflict. method={}, attempt={}", method, attempt);
+                backoff(retry.backoffMillis(), attempt);
+            }
+        }
+    }
+
+    private Counter conflicts(String method) {
+        return meterRegistry.counter("user.optimistic_lock.conflicts", "method", method);
+    }
+
+    /** 시도 횟수에 비례한 대기 + 지터 (동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록) */
+    private void backoff(long baseMillis, int attempt) throws InterruptedException {
+        if (baseMillis <= 0) {
+            return;
+        }
+        long delay = baseMillis * attempt + ThreadLocalRandom.current().nextLong(baseMillis);
+        Thread.sleep(delay);
+    }
+
+    /**
+     * user-service 전용 ErrorCode → 공통 ApplicationException 변환
+     */
+    private ApplicationException toAppException(ErrorCode errorCode) {
+        return new ApplicationException(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getDefaultMessage()
+        );
+    }
+}
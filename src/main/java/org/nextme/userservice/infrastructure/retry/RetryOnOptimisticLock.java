@@ -0,0 +1,29 @@
+package org.nextme.userservice.infrastructure.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 시 메서드를 새 트랜잭션으로 다시 실행한다.
+ *
+ * - 같은 입력으로 다시 실행해도 결과가 같은(멱등) 유스케이스에만 붙인다.
+ * - @Transactional 바깥에서 동작하므로, 재시도마다 엔티티를 새로 읽어 최신 version 기준으로 다시 계산한다.
+ * - 이미 바깥 트랜잭션 안에서 호출되면 재시도하지 않는다. (롤백 전용 트랜잭션을 다시 쓸 수 없으므로)
+ * - 재시도 횟수를 다 쓰면 CONCURRENT_UPDATE_CONFLICT(409) 로 응답한다.
+ *
+ * @see OptimisticLockRetryAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+
+    /** 최초 실행을 포함한 최대 실행 횟수 */
+    int maxAttempts() default 3;
+
+    /** 재시도 전 기본 대기 시간 (시도마다 배수로 늘리고 지터를 더한다) */
+    long backoffMillis() default 20;
+}
@@ -95,6 +95,7 @@ public class SecurityConfig {
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/", "/health", "/public/**").permitAll()
                         .requestMatchers("/oauth2/**", "/login/**", "/v1/user/auth/login", "/v1/user/auth/signup").permitAll()
+                        .requestMatchers("/v1/user/auth/username/availability").permitAll()
                         .requestMatchers("/v1/user/feign/profile").permitAll()
                         .requestMatchers("/error").permitAll()
                         // Actuator (Prometheus scrape용) 허용
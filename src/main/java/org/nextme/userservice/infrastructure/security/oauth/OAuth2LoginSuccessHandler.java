@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.nextme.common.jwt.JwtTokenPair;
 import org.nextme.common.jwt.JwtTokenProvider;
+import org.nextme.userservice.application.service.LoginActivityRecorder;
 import org.nextme.userservice.infrastructure.security.NextmeUserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,6 +22,7 @@ import java.util.List;
 public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider; // msa-common 의 JwtTokenProvider
+    private final LoginActivityRecorder loginActivityRecorder;
     private static final String FRONTEND_BASE_URI = "http://sparta-nextme.xyz";
 
     private static final String FRONTEND_REDIRECT_PATH = "/oauth/redirect"; // 프론트엔드에서 토큰을 처리할 경로
@@ -37,6 +39,9 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
         // UserId → 문자열(UUID)로 변환
         String userId = principal.getUserId().getId().toString();
 
+        // 로그인 기록 (메모리 버퍼, DB 반영은 주기적으로)
+        loginActivityRecorder.recordLogin(principal.getUserId().getId());
+
         // 추가로 JWT에 넣을 값들
         String name = principal.getName();        // NextmeUserPrincipal.name (우리 서비스 이름)
         String email = principal.getEmail();      // 이메일
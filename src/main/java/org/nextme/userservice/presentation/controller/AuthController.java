@@ -1,29 +1,53 @@
 package org.nextme.userservice.presentation.controller;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.nextme.infrastructure.success.CustomResponse;
 import org.nextme.userservice.application.dto.LoginRequest;
 import org.nextme.userservice.application.dto.SignupRequest;
 import org.nextme.userservice.application.dto.TokenResponse;
+import org.nextme.userservice.application.dto.UserNameAvailabilityResponse;
 import org.nextme.userservice.application.service.AuthService;
+import org.nextme.userservice.infrastructure.idempotency.Idempotent;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/user")
 public class AuthController {
     private final AuthService authService;
 
+    /**
+     * 로컬 회원가입
+     * - Idempotency-Key 헤더를 보내면 타임아웃 재시도에도 한 번만 가입 처리된다. (BCrypt 도 한 번)
+     */
+    @Idempotent
     @PostMapping("/auth/signup")
     public CustomResponse<Void> signup(@RequestBody @Validated SignupRequest request) {
         authService.signup(request);
         return CustomResponse.onSuccess("회원가입에 성공했습니다.", null);
     }
 
+    /**
+     * 로그인 ID 사용 가능 여부 확인 (회원가입 폼)
+     * - GET /v1/user/auth/username/availability?userName=kim123
+     * - 대부분 메모리 Bloom 필터로 응답하고, 사용 중일 수 있는 이름만 DB 로 확인한다.
+     */
+    @GetMapping("/auth/username/availability")
+    public CustomResponse<UserNameAvailabilityResponse> checkUserName(
+            @RequestParam("userName") @NotBlank @Size(max = 25) String userName
+    ) {
+        return CustomResponse.onSuccess("로그인 ID 확인에 성공했습니다.", authService.checkUserName(userName));
+    }
+
     @PostMapping("/auth/login")
     public CustomResponse<TokenResponse> login(@RequestBody @Validated LoginRequest request) {
         TokenResponse response = authService.login(request);
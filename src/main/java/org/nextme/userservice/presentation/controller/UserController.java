@@ -1,5 +1,6 @@
 package org.nextme.userservice.presentation.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextme.common.security.UserPrincipal;
@@ -8,17 +9,29 @@ import org.nextme.infrastructure.exception.ErrorCode;
 import org.nextme.infrastructure.success.CustomResponse;
 import org.nextme.userservice.application.dto.*;
 import org.nextme.userservice.application.service.*;
+import org.nextme.userservice.domain.AdvisorStatus;
 import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.UserStatus;
+import org.nextme.userservice.domain.repository.AdminUserSearchCondition;
+import org.nextme.userservice.infrastructure.idempotency.Idempotent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,6 +49,8 @@ import java.util.UUID;
  * 3) user-service 의 GatewayUserHeaderAuthenticationFilter 가 헤더를 읽어
  *    SecurityContext 에 UserPrincipal 세팅
  * 4) 컨트롤러에서 @AuthenticationPrincipal UserPrincipal principal 로 바로 사용
+ *
+ * @Idempotent 가 붙은 API 는 Idempotency-Key 헤더로 재시도 시 중복 실행을 막는다. (IdempotencyInterceptor)
  */
 @Slf4j
 @RestController
@@ -49,12 +64,36 @@ public class UserController {
     private final AdvisorApplicationService advisorApplicationService;
     private final UserPointService userPointService;
     private final AuthTokenService authTokenService;
+    private final PointRankingService pointRankingService;
+    private final PointStatementService pointStatementService;
+    private final PointSpendService pointSpendService;
+    private final AdvisorDirectoryService advisorDirectoryService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final UserETagService userETagService;
+    private final UserArchiveService userArchiveService;
+    private final UserBulkChangeService userBulkChangeService;
+    private final UserStatsService userStatsService;
 
     /** Gateway 가 넣어준 userId(String) → 도메인 UserId 변환 공통 메서드 */
     private UserId toUserId(UserPrincipal principal) {
         return UserId.of(UUID.fromString(principal.userId()));
     }
 
+    /**
+     * ETag 를 붙인 200 응답
+     * - private: 유저별 응답이므로 Gateway 등 공유 캐시에는 저장하지 않음
+     * - no-cache: 브라우저는 저장하되 매번 If-None-Match 로 재검증
+     */
+    private <T> ResponseEntity<T> conditional(String eTag, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(body);
+    }
+
     /** 공통 에러 처리 */
     private ApplicationException invalidRefreshTokenException() {
         ErrorCode e = ErrorCode.INVALID_REFRESH_TOKEN;
@@ -143,17 +182,25 @@ public class UserController {
      *
      * 요청: GET /v1/user/me
      * 응답: CustomResponse<UserResponse>
+     * - 응답에 ETag 를 내려주고, If-None-Match 가 현재 ETag 와 같으면 DB 조회 없이 304
+     * - 본문은 primary 에서 읽고, ETag 는 그 본문의 version 으로 만든다.
      */
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/me")
-    public CustomResponse<UserResponse> getMe(
-            @AuthenticationPrincipal UserPrincipal principal
+    public ResponseEntity<CustomResponse<UserResponse>> getMe(
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest
     ) {
         UserId userId = toUserId(principal);
 
-        UserResponse response = userSearchService.getMyProfile(userId);
+        String eTag = userETagService.cachedETag(userId, "me");
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;   // 304 Not Modified (본문 없음)
+        }
 
-        return CustomResponse.onSuccess("내 정보 조회에 성공했습니다.", response);
+        UserETagService.Tagged<UserResponse> loaded = userETagService.load(userId, "me", UserResponse::from);
+
+        return conditional(loaded.eTag(), CustomResponse.onSuccess("내 정보 조회에 성공했습니다.", loaded.body()));
     }
 
     /**
@@ -195,15 +242,24 @@ public class UserController {
     /**
      * 내 프로필 조회
      * - GET /v1/user/me/profile
+     * - ETag / If-None-Match 지원 (GET /me 와 동일)
      */
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/me/profile")
-    public CustomResponse<UserProfileResponse> getMyProfile(
-            @AuthenticationPrincipal UserPrincipal principal
+    public ResponseEntity<CustomResponse<UserProfileResponse>> getMyProfile(
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest
     ) {
         UserId userId = toUserId(principal);
-        UserProfileResponse response = userProfileService.getMyProfile(userId);
-        return CustomResponse.onSuccess("프로필 조회에 성공했습니다.", response);
+
+        String eTag = userETagService.cachedETag(userId, "profile");
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;   // 304 Not Modified (본문 없음)
+        }
+
+        UserETagService.Tagged<UserProfileResponse> loaded =
+                userETagService.load(userId, "profile", userProfileService::toMyProfileResponse);
+        return conditional(loaded.eTag(), CustomResponse.onSuccess("프로필 조회에 성공했습니다.", loaded.body()));
     }
 
     /**
@@ -272,6 +328,7 @@ public class UserController {
      * - 공통 예외 핸들러에서 처리
      */
     @PreAuthorize("hasRole('USER')")
+    @Idempotent
     @PostMapping("/me/advisor/apply")
     public CustomResponse<Void> applyAdvisor(
             @AuthenticationPrincipal UserPrincipal principal
@@ -284,20 +341,45 @@ public class UserController {
     }
 
     /**
-     * 어드바이저 신청(PENDING) 상태인 유저 목록 조회
+     * 어드바이저 신청(PENDING) 대기열 조회 (신청 시각 오름차순)
      *
-     * - GET /v1/admin/advisors/pending
+     * - GET /v1/user/advisor/pending?size=20
+     * - 다음 페이지: GET /v1/user/advisor/pending?cursor={nextCursor}&size=20
      * - ROLE: MASTER, MANAGER
      */
     @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
     @GetMapping("/advisor/pending")
-    public CustomResponse<List<AdvisorCandidateResponse>> getPendingAdvisors() {
-        List<AdvisorCandidateResponse> response =
-                advisorApplicationService.getPendingAdvisors();
+    public CustomResponse<CursorPageResponse<AdvisorCandidateResponse>> getPendingAdvisors(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        CursorPageResponse<AdvisorCandidateResponse> response =
+                advisorApplicationService.getPendingAdvisors(cursor, size);
 
         return CustomResponse.onSuccess("어드바이저 신청 대기 목록 조회에 성공했습니다.", response);
     }
 
+    /**
+     * 어드바이저 디렉터리 검색 (공개 프로필)
+     *
+     * - GET /v1/user/advisors?category=주식&minCareerYears=3&q=배당&size=20
+     * - 다음 페이지: cursor={nextCursor}
+     * - 경력 연차 내림차순, 검색어(q)는 소개 부분 일치 (2자 이상)
+     * - fields=userId,name 처럼 필요한 필드만 요청 가능 (생략 시 전체)
+     */
+    @GetMapping("/advisors")
+    public CustomResponse<CursorPageResponse<AdvisorDirectoryResponse>> searchAdvisors(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "minCareerYears", required = false) Integer minCareerYears,
+            @RequestParam(value = "q", required = false) String keyword,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return CustomResponse.onSuccess("어드바이저 목록 조회에 성공했습니다.",
+                advisorDirectoryService.search(category, minCareerYears, keyword, fields, cursor, size));
+    }
+
     /**
      * 특정 유저를 어드바이저로 승인(승급)
      *
@@ -317,6 +399,38 @@ public class UserController {
         return CustomResponse.onSuccess(message, null);
     }
 
+    /**
+     * 어드바이저 일괄 승인(승급)
+     *
+     * - POST /v1/user/advisor/approve
+     * - body: { "userIds": [ ... ] } (최대 500명)
+     * - PENDING 인 유저만 승인되고, 유저별 처리 결과를 내려준다.
+     * - ROLE: MASTER, MANAGER
+     */
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+    @PostMapping("/advisor/approve")
+    public CustomResponse<AdvisorBatchResponse> approveAdvisors(
+            @RequestBody @Validated AdvisorBatchRequest request
+    ) {
+        return CustomResponse.onSuccess("어드바이저 일괄 승인이 처리되었습니다.",
+                advisorApplicationService.approveAdvisors(request.userIds()));
+    }
+
+    /**
+     * 어드바이저 신청 일괄 거절
+     *
+     * - POST /v1/user/advisor/reject
+     * - ROLE: MASTER, MANAGER
+     */
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+    @PostMapping("/advisor/reject")
+    public CustomResponse<AdvisorBatchResponse> rejectAdvisors(
+            @RequestBody @Validated AdvisorBatchRequest request
+    ) {
+        return CustomResponse.onSuccess("어드바이저 일괄 거절이 처리되었습니다.",
+                advisorApplicationService.rejectAdvisors(request.userIds()));
+    }
+
     // ==========================
     //  토큰 관련 ( 토큰 블랙리스트 처리(로그 아웃), 엑세스 토큰 재발급)
     // ==========================
@@ -360,7 +474,10 @@ public class UserController {
         return CustomResponse.onSuccess("로그아웃 되었습니다.", null);
     }
 
-    /** 전체 유저 조회 (관리자 전용, 페이징 적용) */
+    /**
+     * 전체 유저 조회 (관리자 전용, 페이징 적용)
+     * - 기존 클라이언트 호환용. 필터/깊은 페이지가 필요하면 /admin/users/search 사용
+     */
     @GetMapping("/admin/users")
     public CustomResponse<Page<UserResponse>> getAllUsers(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
@@ -368,8 +485,121 @@ public class UserController {
         return CustomResponse.onSuccess("전체 유저 조회 성공", userSearchService.getAllUsers(pageable));
     }
 
+    /**
+     * 관리자 대시보드 유저 통계
+     *
+     * - GET /v1/user/admin/users/stats?days=30
+     * - role / status / advisorStatus 별 유저 수 + 최근 days 일 일별 가입 수 (최대 user.stats.signup-days)
+     * - 미리 집계된 값(Redis)만 읽으므로 유저 수와 무관하게 일정한 비용
+     * - ROLE: MASTER, MANAGER
+     */
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+    @GetMapping("/admin/users/stats")
+    public CustomResponse<UserStatsResponse> getUserStats(@RequestParam(defaultValue = "30") int days) {
+        return CustomResponse.onSuccess("유저 통계 조회 성공", userStatsService.getStats(days));
+    }
+
+    /**
+     * 관리자 유저 검색 (가입일 최신순, 커서 페이징)
+     *
+     * - GET /v1/user/admin/users/search?status=ACTIVE&role=ADVISOR&advisorStatus=APPROVED&userName=kim&name=김&size=20
+     * - 다음 페이지: cursor={nextCursor}
+     * - userName / name 은 앞부분 일치 (대소문자 무시)
+     * - estimatedTotal 은 추정 건수 (정확한 count 아님, 추정 실패 시 null)
+     * - fields=userName,status 처럼 필요한 필드만 요청 가능 (조회 컬럼과 JSON 모두 줄어듦, 생략 시 전체)
+     * - ROLE: MASTER, MANAGER
+     */
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+    @GetMapping("/admin/users/search")
+    public CustomResponse<AdminUserSearchResponse> searchUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) AdvisorStatus advisorStatus,
+            @RequestParam(value = "userName", required = false) String userNamePrefix,
+            @RequestParam(value = "name", required = false) String namePrefix,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        AdminUserSearchCondition condition =
+                new AdminUserSearchCondition(status, role, advisorStatus, userNamePrefix, namePrefix);
+        return CustomResponse.onSuccess("유저 검색에 성공했습니다.",
+                userSearchService.searchUsers(condition, fields, cursor, size));
+    }
+
+    /**
+     * 유저 일괄 가져오기 (관리자 전용)
+     *
+     * - POST /v1/user/admin/users/import
+     * - Content-Type: text/csv (첫 줄 헤더) 또는 application/x-ndjson
+     *   예) curl -X POST -H "Content-Type: text/csv" --data-binary @users.csv .../v1/user/admin/users/import
+     * - 요청 본문을 스트리밍으로 읽어 청크 단위로 커밋하고, 행 단위 실패 사유를 내려준다.
+     * - ROLE: MASTER
+     */
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping(value = "/admin/users/import", consumes = {"text/csv", "application/x-ndjson"})
+    public CustomResponse<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        UserImportResponse response = userImportService.importUsers(request.getInputStream(), request.getContentType());
+        return CustomResponse.onSuccess("유저 일괄 가져오기가 완료되었습니다.", response);
+    }
+
+    /**
+     * 유저 내보내기 (관리자 전용, 스트리밍)
+     *
+     * - GET /v1/user/admin/users/export?format=ndjson|csv&status=ACTIVE&role=ADVISOR
+     * - 페이지 호출 없이 조건에 맞는 전체 유저를 한 응답으로 내려준다. (count / OFFSET 없음)
+     * - ROLE: MASTER
+     */
+    @PreAuthorize("hasRole('MASTER')")
+    @GetMapping("/admin/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role
+    ) {
+        UserExportService.Format exportFormat = userExportService.resolveFormat(format);
+        StreamingResponseBody body = out -> userExportService.export(status, role, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"users-" + LocalDate.now() + "." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * 유저 상태/권한 일괄 변경 (관리자 전용)
+     *
+     * - POST /v1/user/admin/users/bulk-change
+     * - body 예) { "filter": { "userNamePrefix": "spam" }, "status": "BLOCKED" }
+     *          { "userIds": [ ... ], "role": "USER" }
+     * - 청크 단위로 UPDATE 하고, 상태를 ACTIVE 외로 바꾸거나 권한을 바꾼 유저의 기존 토큰은 무효화한다.
+     * - ROLE: MASTER
+     */
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping("/admin/users/bulk-change")
+    public CustomResponse<BulkUserChangeResponse> bulkChangeUsers(
+            @RequestBody @Validated BulkUserChangeRequest request
+    ) {
+        return CustomResponse.onSuccess("유저 일괄 변경이 처리되었습니다.", userBulkChangeService.change(request));
+    }
+
+    /**
+     * 아카이브된 유저 복원 (관리자 전용)
+     *
+     * - POST /v1/user/admin/users/{userId}/restore
+     * - 탈퇴/장기 휴면으로 p_user_archive 에 옮겨진 유저를 아카이브 당시 상태 그대로 되돌린다.
+     * - ROLE: MASTER
+     */
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping("/admin/users/{userId}/restore")
+    public CustomResponse<Void> restoreUser(@PathVariable("userId") UUID userId) {
+        userArchiveService.restore(UserId.of(userId));
+        return CustomResponse.onSuccess("유저가 복원되었습니다.", null);
+    }
+
     /** 포인트 적립 */
     @PreAuthorize("hasRole('USER')")
+    @Idempotent
     @PostMapping("/me/points")
     public CustomResponse<Void> addPoint(
             @AuthenticationPrincipal UserPrincipal principal,
@@ -380,4 +610,144 @@ public class UserController {
         return CustomResponse.onSuccess("포인트가 적립되었습니다.", null);
     }
 
+    /**
+     * 포인트 즉시 사용
+     * - POST /v1/user/me/points/spend
+     * - 잔액이 부족하면 409 (잔액 검사 + 차감을 DB 조건부 UPDATE 한 번으로 처리)
+     */
+    @PreAuthorize("hasRole('USER')")
+    @Idempotent
+    @PostMapping("/me/points/spend")
+    public CustomResponse<PointBalanceResponse> spendPoint(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody SpendPointRequest request
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("포인트가 사용되었습니다.",
+                pointSpendService.spend(userId, request.amount()));
+    }
+
+    /**
+     * 포인트 예약 (결제 등 외부 처리 전 선차감)
+     * - POST /v1/user/me/points/reservations
+     * - expiresAt 까지 확정하지 않으면 자동으로 해제(환불)된다.
+     */
+    @PreAuthorize("hasRole('USER')")
+    @Idempotent
+    @PostMapping("/me/points/reservations")
+    public CustomResponse<PointReservationResponse> reservePoint(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody SpendPointRequest request
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("포인트가 예약되었습니다.",
+                pointSpendService.reserve(userId, request.amount()));
+    }
+
+    /** 포인트 예약 확정 */
+    @PreAuthorize("hasRole('USER')")
+    @Idempotent
+    @PostMapping("/me/points/reservations/{reservationId}/confirm")
+    public CustomResponse<Void> confirmPointReservation(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable("reservationId") UUID reservationId
+    ) {
+        UserId userId = toUserId(principal);
+        pointSpendService.confirm(userId, reservationId);
+        return CustomResponse.onSuccess("포인트 예약이 확정되었습니다.", null);
+    }
+
+    /** 포인트 예약 취소 (환불) */
+    @PreAuthorize("hasRole('USER')")
+    @Idempotent
+    @DeleteMapping("/me/points/reservations/{reservationId}")
+    public CustomResponse<PointBalanceResponse> releasePointReservation(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable("reservationId") UUID reservationId
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("포인트 예약이 취소되었습니다.",
+                pointSpendService.release(userId, reservationId));
+    }
+
+    /**
+     * 내 포인트 명세 조회 (일별/프로모션별 집계)
+     * - GET /v1/user/me/points/statement?from=2025-01-01&to=2025-01-31&page=0&size=20
+     * - 기간 미지정 시 최근 30일
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/me/points/statement")
+    public CustomResponse<Page<PointStatementResponse>> getMyPointStatement(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @PageableDefault(size = 20, sort = {"rollupDate", "promotionId"}, direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("포인트 명세 조회에 성공했습니다.",
+                pointStatementService.getStatement(userId, from, to, pageable));
+    }
+
+    /**
+     * 특정 유저 포인트 명세 조회 (CS/관리자 전용)
+     * - GET /v1/user/admin/users/{userId}/points/statement
+     * - ROLE: MASTER, MANAGER
+     */
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+    @GetMapping("/admin/users/{userId}/points/statement")
+    public CustomResponse<Page<PointStatementResponse>> getUserPointStatement(
+            @PathVariable("userId") String userIdString,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @PageableDefault(size = 20, sort = {"rollupDate", "promotionId"}, direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        UserId userId = UserId.of(UUID.fromString(userIdString));
+        return CustomResponse.onSuccess("포인트 명세 조회에 성공했습니다.",
+                pointStatementService.getStatement(userId, from, to, pageable));
+    }
+
+    // ==========================
+    //  포인트 랭킹 (Redis Sorted Set 기반, DB 조회 없음)
+    // ==========================
+
+    /**
+     * 포인트 랭킹 상위 N명 조회
+     * - GET /v1/user/points/ranking?size=10
+     */
+    @GetMapping("/points/ranking")
+    public CustomResponse<List<PointRankResponse>> getTopPointRanks(
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return CustomResponse.onSuccess("포인트 랭킹 조회에 성공했습니다.", pointRankingService.getTopRanks(size));
+    }
+
+    /**
+     * 내 포인트 순위 조회
+     * - GET /v1/user/me/points/ranking
+     * - 포인트가 없어 랭킹에 없으면 result 는 null
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/me/points/ranking")
+    public CustomResponse<PointRankResponse> getMyPointRank(
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("내 포인트 순위 조회에 성공했습니다.", pointRankingService.getMyRank(userId));
+    }
+
+    /**
+     * 내 주변 포인트 순위 조회 (내 위/아래 range 명)
+     * - GET /v1/user/me/points/ranking/around?range=5
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/me/points/ranking/around")
+    public CustomResponse<List<PointRankResponse>> getPointRanksAroundMe(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "range", defaultValue = "5") int range
+    ) {
+        UserId userId = toUserId(principal);
+        return CustomResponse.onSuccess("내 주변 포인트 순위 조회에 성공했습니다.",
+                pointRankingService.getRanksAroundMe(userId, range));
+    }
+
 }
@@ -0,0 +1,3 @@
+-- User 낙관적 락 버전 컬럼 (기존 행은 0 부터 시작)
+ALTER TABLE userservice.p_user
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
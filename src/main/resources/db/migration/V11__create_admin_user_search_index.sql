@@ -0,0 +1,16 @@
+-- 관리자 유저 검색 (가입일 DESC, user_id DESC keyset) 용 인덱스
+CREATE INDEX IF NOT EXISTS idx_user_created_at_id
+    ON userservice.p_user (created_at DESC, user_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_user_status_created_at_id
+    ON userservice.p_user (status, created_at DESC, user_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_user_role_created_at_id
+    ON userservice.p_user (role, created_at DESC, user_id DESC);
+
+-- 로그인 ID / 이름 앞부분 검색 (lower(col) LIKE 'prefix%')
+CREATE INDEX IF NOT EXISTS idx_user_user_name_prefix
+    ON userservice.p_user (lower(user_name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_user_name_prefix
+    ON userservice.p_user (lower(name) text_pattern_ops);
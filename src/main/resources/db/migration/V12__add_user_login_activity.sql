@@ -0,0 +1,4 @@
+-- 마지막 로그인 시각 / 누적 로그인 횟수 (LoginActivityRecorder 배치 기록)
+ALTER TABLE userservice.p_user
+    ADD COLUMN IF NOT EXISTS last_login_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS login_count BIGINT NOT NULL DEFAULT 0;
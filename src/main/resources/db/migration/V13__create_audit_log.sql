@@ -0,0 +1,60 @@
+-- 감사 로그 (관리자/보안 작업 기록)
+-- - occurred_at 월 단위 RANGE 파티션: 보관 기간이 지난 달은 파티션 DROP 으로 정리 (DELETE/VACUUM 없음)
+-- - 파티션 키가 PK 에 포함되어야 하므로 PK = (id, occurred_at)
+CREATE TABLE IF NOT EXISTS userservice.p_audit_log (
+    id             UUID          NOT NULL,
+    occurred_at    TIMESTAMP     NOT NULL,
+    action         VARCHAR(50)   NOT NULL,
+    actor_id       UUID,
+    target_user_id UUID,
+    detail         VARCHAR(1000),
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- 유저별 이력 조회
+CREATE INDEX IF NOT EXISTS idx_audit_log_target_user
+    ON userservice.p_audit_log (target_user_id, occurred_at);
+
+-- from_month 가 속한 달부터 months 개월치 월 파티션 생성 (이미 있으면 건너뜀)
+CREATE OR REPLACE FUNCTION userservice.ensure_audit_log_partitions(from_month DATE, months INT)
+RETURNS VOID AS $$
+DECLARE
+    start_month DATE;
+BEGIN
+    FOR i IN 0..months - 1 LOOP
+        start_month := (date_trunc('month', from_month) + make_interval(months => i))::date;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS userservice.%I PARTITION OF userservice.p_audit_log FOR VALUES FROM (%L) TO (%L)',
+            'p_audit_log_' || to_char(start_month, 'YYYYMM'),
+            start_month,
+            (start_month + make_interval(months => 1))::date
+        );
+    END LOOP;
+END $$ LANGUAGE plpgsql;
+
+-- before_month 가 속한 달 이전의 월 파티션 DROP, 삭제한 파티션 수 반환
+CREATE OR REPLACE FUNCTION userservice.drop_audit_log_partitions_before(before_month DATE)
+RETURNS INT AS $$
+DECLARE
+    part    RECORD;
+    dropped INT := 0;
+BEGIN
+    FOR part IN
+        SELECT child.relname
+        FROM pg_inherits inh
+        JOIN pg_class child ON child.oid = inh.inhrelid
+        JOIN pg_class parent ON parent.oid = inh.inhparent
+        JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+        WHERE ns.nspname = 'userservice'
+          AND parent.relname = 'p_audit_log'
+          AND child.relname ~ '^p_audit_log_[0-9]{6}$'
+          AND to_date(right(child.relname, 6), 'YYYYMM') < date_trunc('month', before_month)
+    LOOP
+        EXECUTE format('DROP TABLE IF EXISTS userservice.%I', part.relname);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END $$ LANGUAGE plpgsql;
+
+-- 이번 달 + 다음 2개월 (이후는 AuditLogPartitionJob 이 미리 만든다)
+SELECT userservice.ensure_audit_log_partitions(CURRENT_DATE, 3);
@@ -0,0 +1,25 @@
+-- 탈퇴(DELETED) / 장기 휴면(INACTIVE) 유저 아카이브
+-- - p_user / p_user_profile / social_account 행을 JSONB 한 건으로 옮겨 보관 (복원 시 그대로 되돌림)
+-- - user_name 은 조회/중복 확인용으로 따로 둔다.
+CREATE TABLE IF NOT EXISTS userservice.p_user_archive (
+    user_id     UUID        PRIMARY KEY,
+    user_name   VARCHAR(25) NOT NULL,
+    status      VARCHAR(20) NOT NULL,
+    archived_at TIMESTAMP   NOT NULL,
+    payload     JSONB       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_archive_archived_at
+    ON userservice.p_user_archive (archived_at);
+
+-- 배치 잡 진행 위치(checkpoint) (잡 이름별 마지막 처리 키)
+CREATE TABLE IF NOT EXISTS userservice.p_job_checkpoint (
+    job_name   VARCHAR(100) PRIMARY KEY,
+    last_key   VARCHAR(100),
+    updated_at TIMESTAMP    NOT NULL
+);
+
+-- 아카이브 후보 keyset 스캔용 partial index: DELETED / INACTIVE 유저만 user_id 순으로 색인
+CREATE INDEX IF NOT EXISTS idx_user_archive_candidate
+    ON userservice.p_user (user_id)
+    WHERE status IN ('DELETED', 'INACTIVE');
@@ -0,0 +1,12 @@
+-- Kafka 메시지 중복 처리 방지 (at-least-once 재전달 대비)
+-- 메시지 반영과 같은 트랜잭션에서 (consumer, message_key) 를 INSERT ... ON CONFLICT DO NOTHING 으로 기록한다.
+CREATE TABLE IF NOT EXISTS userservice.p_processed_message (
+    consumer     VARCHAR(100) NOT NULL,
+    message_key  VARCHAR(200) NOT NULL,
+    processed_at TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_processed_message PRIMARY KEY (consumer, message_key)
+);
+
+-- 보존 기간 정리 잡용
+CREATE INDEX IF NOT EXISTS idx_processed_message_processed_at
+    ON userservice.p_processed_message (processed_at);
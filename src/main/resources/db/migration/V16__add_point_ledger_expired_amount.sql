@@ -0,0 +1,4 @@
+-- 만료 처리 시 유저 포인트에서 실제로 차감된 양
+-- (이미 사용된 포인트는 다시 차감하지 않으므로 만료 직전 remaining 보다 작을 수 있다)
+ALTER TABLE userservice.p_point_ledger
+    ADD COLUMN IF NOT EXISTS expired_amount BIGINT;
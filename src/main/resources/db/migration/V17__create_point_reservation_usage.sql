@@ -0,0 +1,15 @@
+-- 예약이 차감한 만료 원장 행 (예약 해제 시 같은 행에 되돌려 준다)
+CREATE TABLE IF NOT EXISTS userservice.p_point_reservation_usage (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    reservation_id UUID   NOT NULL,
+    ledger_id      BIGINT NOT NULL,
+    amount         BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_point_reservation_usage_reservation
+    ON userservice.p_point_reservation_usage (reservation_id);
+
+-- 포인트 사용 시 유저의 남은 원장 행을 만료 시각 순으로 차감
+CREATE INDEX IF NOT EXISTS idx_point_ledger_user_spendable
+    ON userservice.p_point_ledger (user_id, expires_at)
+    WHERE remaining > 0;
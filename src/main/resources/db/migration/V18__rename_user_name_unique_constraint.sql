@@ -0,0 +1,27 @@
+-- p_user.user_name 유니크 제약 이름을 uk_user_user_name 으로 통일
+-- - Hibernate(ddl-auto: update)가 만든 DB 에는 자동 생성된 이름(uk...)으로 남아 있다.
+-- - 회원가입은 이 이름으로 아이디 중복을 판단한다. (AuthService.isDuplicateUserName)
+DO $$
+DECLARE
+    existing_name TEXT;
+BEGIN
+    SELECT c.conname
+    INTO existing_name
+    FROM pg_constraint c
+             JOIN pg_class t ON t.oid = c.conrelid
+             JOIN pg_namespace n ON n.oid = t.relnamespace
+             JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = c.conkey[1]
+    WHERE n.nspname = 'userservice'
+      AND t.relname = 'p_user'
+      AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1
+      AND a.attname = 'user_name'
+    ORDER BY (c.conname = 'uk_user_user_name') DESC
+    LIMIT 1;
+
+    IF existing_name IS NULL THEN
+        ALTER TABLE userservice.p_user ADD CONSTRAINT uk_user_user_name UNIQUE (user_name);
+    ELSIF existing_name <> 'uk_user_user_name' THEN
+        EXECUTE format('ALTER TABLE userservice.p_user RENAME CONSTRAINT %I TO uk_user_user_name', existing_name);
+    END IF;
+END $$;
@@ -0,0 +1,33 @@
+-- 유저 기본 테이블 (p_user, social_account)
+-- 이전에는 Hibernate(ddl-auto) 가 앱 기동 시 만들었으나, Flyway 가 Hibernate 보다 먼저 실행되므로
+-- 이후 마이그레이션(V5~)이 새 DB 에서도 테이블을 대상으로 적용되도록 여기서 먼저 만든다.
+-- 이미 Hibernate 가 만든 DB 에서는 아무것도 하지 않는다. (IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS userservice.p_user (
+    user_id               UUID         PRIMARY KEY,
+    user_name             VARCHAR(25)  NOT NULL,
+    password              VARCHAR(255) NOT NULL,
+    role                  VARCHAR(20)  NOT NULL,
+    name                  VARCHAR(50)  NOT NULL,
+    slack_id              VARCHAR(100),
+    status                VARCHAR(20)  NOT NULL,
+    advisor_status        VARCHAR(20)  NOT NULL,
+    password_initialized  BOOLEAN      NOT NULL,
+    email                 VARCHAR(100),
+    point                 BIGINT       NOT NULL,
+    profile_main_category VARCHAR(50),
+    profile_intro         VARCHAR(500),
+    profile_career_years  INTEGER,
+    profile_active        BOOLEAN,
+    created_at            TIMESTAMP,
+    updated_at            TIMESTAMP,
+    CONSTRAINT uk_user_user_name UNIQUE (user_name)
+);
+
+-- User.socialAccounts (@ElementCollection) 컬렉션 테이블
+CREATE TABLE IF NOT EXISTS userservice.social_account (
+    user_id          UUID         NOT NULL,
+    provider         VARCHAR(20)  NOT NULL,
+    provider_user_id VARCHAR(100) NOT NULL,
+    email            VARCHAR(255),
+    CONSTRAINT fk_social_account_user FOREIGN KEY (user_id) REFERENCES userservice.p_user (user_id)
+);
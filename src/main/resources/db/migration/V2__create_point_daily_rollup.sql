@@ -0,0 +1,16 @@
+-- 포인트 일별/프로모션별 집계 테이블
+CREATE TABLE IF NOT EXISTS userservice.p_point_daily_rollup (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        UUID         NOT NULL,
+    rollup_date    DATE         NOT NULL,
+    promotion_id   UUID         NOT NULL,
+    promotion_name VARCHAR(100),
+    total_amount   BIGINT       NOT NULL,
+    earn_count     BIGINT       NOT NULL,
+    updated_at     TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_point_daily_rollup UNIQUE (user_id, rollup_date, promotion_id)
+);
+
+-- 유저별 기간 조회용 (명세 조회는 최신 일자부터)
+CREATE INDEX IF NOT EXISTS idx_point_daily_rollup_user_date
+    ON userservice.p_point_daily_rollup (user_id, rollup_date);
@@ -0,0 +1,16 @@
+-- 만료 대상 포인트 원장 테이블
+CREATE TABLE IF NOT EXISTS userservice.p_point_ledger (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      UUID      NOT NULL,
+    promotion_id UUID,
+    amount       BIGINT    NOT NULL,
+    remaining    BIGINT    NOT NULL,
+    earned_at    TIMESTAMP NOT NULL,
+    expires_at   TIMESTAMP NOT NULL,
+    expired_at   TIMESTAMP
+);
+
+-- 만료 잡 전용 partial index: 아직 남은 포인트가 있는 행만 색인
+CREATE INDEX IF NOT EXISTS idx_point_ledger_expiring
+    ON userservice.p_point_ledger (expires_at)
+    WHERE remaining > 0;
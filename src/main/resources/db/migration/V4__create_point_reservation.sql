@@ -0,0 +1,15 @@
+-- 포인트 예약(hold) 테이블
+CREATE TABLE IF NOT EXISTS userservice.p_point_reservation (
+    reservation_id UUID        PRIMARY KEY,
+    user_id        UUID        NOT NULL,
+    amount         BIGINT      NOT NULL,
+    status         VARCHAR(20) NOT NULL,
+    reserved_at    TIMESTAMP   NOT NULL,
+    expires_at     TIMESTAMP   NOT NULL,
+    completed_at   TIMESTAMP
+);
+
+-- 자동 해제 잡 전용 partial index: 아직 확정/해제되지 않은 예약만 색인
+CREATE INDEX IF NOT EXISTS idx_point_reservation_expiring
+    ON userservice.p_point_reservation (expires_at)
+    WHERE status = 'RESERVED';
@@ -0,0 +1,14 @@
+-- 어드바이저 신청 대기열 (keyset 페이지네이션용)
+ALTER TABLE userservice.p_user
+    ADD COLUMN IF NOT EXISTS advisor_requested_at TIMESTAMP;
+
+-- 기존 신청자는 마지막 수정 시각을 신청 시각으로 간주
+UPDATE userservice.p_user
+SET advisor_requested_at = COALESCE(updated_at, created_at, now())
+WHERE advisor_status = 'PENDING'
+  AND advisor_requested_at IS NULL;
+
+-- PENDING 행만 색인하는 partial index (승인/거절된 수십만 건은 색인하지 않음)
+CREATE INDEX IF NOT EXISTS idx_user_advisor_pending
+    ON userservice.p_user (advisor_requested_at, user_id)
+    WHERE advisor_status = 'PENDING';
@@ -0,0 +1,18 @@
+-- 어드바이저 디렉터리(공개 프로필) 검색용 인덱스
+-- 모든 인덱스는 디렉터리 노출 대상(ADVISOR + ACTIVE + 공개 프로필)만 색인하는 partial index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 카테고리 없이 경력순 목록
+CREATE INDEX IF NOT EXISTS idx_user_advisor_dir_career
+    ON userservice.p_user (profile_career_years DESC, user_id)
+    WHERE role = 'ADVISOR' AND status = 'ACTIVE' AND profile_active = true;
+
+-- 카테고리별 경력순 목록
+CREATE INDEX IF NOT EXISTS idx_user_advisor_dir_category
+    ON userservice.p_user (profile_main_category, profile_career_years DESC, user_id)
+    WHERE role = 'ADVISOR' AND status = 'ACTIVE' AND profile_active = true;
+
+-- 소개(intro) 부분 일치 검색 (ILIKE '%키워드%')
+CREATE INDEX IF NOT EXISTS idx_user_advisor_dir_intro
+    ON userservice.p_user USING gin (profile_intro gin_trgm_ops)
+    WHERE role = 'ADVISOR' AND status = 'ACTIVE' AND profile_active = true;
@@ -0,0 +1,3 @@
+-- 어드바이저 카탈로그 증분 갱신 (updated_at > watermark) 용 인덱스
+CREATE INDEX IF NOT EXISTS idx_user_updated_at
+    ON userservice.p_user (updated_at);
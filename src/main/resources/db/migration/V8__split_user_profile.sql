@@ -0,0 +1,74 @@
+-- UserProfile 을 p_user 에서 p_user_profile 로 분리 (1:1, PK = user_id)
+CREATE TABLE IF NOT EXISTS userservice.p_user_profile (
+    user_id       UUID         PRIMARY KEY,
+    main_category VARCHAR(50),
+    intro         VARCHAR(500),
+    career_years  INTEGER,
+    active        BOOLEAN,
+    created_at    TIMESTAMP,
+    updated_at    TIMESTAMP
+);
+
+-- 기존 p_user 의 임베디드 프로필 컬럼 → p_user_profile 로 데이터 이전 후 컬럼 제거
+ALTER TABLE userservice.p_user
+    ADD COLUMN IF NOT EXISTS profile_id UUID;
+
+DO $$
+BEGIN
+    -- 이미 분리된 DB 에서 다시 실행되어도 안전하도록 컬럼이 남아 있을 때만 이전
+    IF EXISTS (
+        SELECT 1
+        FROM information_schema.columns
+        WHERE table_schema = 'userservice'
+          AND table_name = 'p_user'
+          AND column_name = 'profile_main_category'
+    ) THEN
+        INSERT INTO userservice.p_user_profile
+            (user_id, main_category, intro, career_years, active, created_at, updated_at)
+        SELECT user_id, profile_main_category, profile_intro, profile_career_years, profile_active,
+               COALESCE(updated_at, now()), COALESCE(updated_at, now())
+        FROM userservice.p_user
+        WHERE profile_main_category IS NOT NULL
+           OR profile_intro IS NOT NULL
+           OR profile_career_years IS NOT NULL
+           OR profile_active IS NOT NULL
+        ON CONFLICT (user_id) DO NOTHING;
+
+        UPDATE userservice.p_user u
+        SET profile_id = u.user_id
+        WHERE u.profile_id IS NULL
+          AND EXISTS (SELECT 1 FROM userservice.p_user_profile p WHERE p.user_id = u.user_id);
+
+        -- 기존 디렉터리 partial index (V6) 는 컬럼과 함께 제거된다.
+        ALTER TABLE userservice.p_user
+            DROP COLUMN profile_main_category,
+            DROP COLUMN profile_intro,
+            DROP COLUMN profile_career_years,
+            DROP COLUMN profile_active;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint WHERE conname = 'fk_user_profile'
+    ) THEN
+        ALTER TABLE userservice.p_user
+            ADD CONSTRAINT fk_user_profile
+            FOREIGN KEY (profile_id) REFERENCES userservice.p_user_profile (user_id);
+    END IF;
+END $$;
+
+-- 어드바이저 디렉터리 검색용 인덱스 (공개 프로필만 색인)
+CREATE INDEX IF NOT EXISTS idx_user_profile_dir_career
+    ON userservice.p_user_profile (career_years DESC, user_id)
+    WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_user_profile_dir_category
+    ON userservice.p_user_profile (main_category, career_years DESC, user_id)
+    WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_user_profile_dir_intro
+    ON userservice.p_user_profile USING gin (intro gin_trgm_ops)
+    WHERE active = true;
+
+-- 어드바이저 카탈로그 증분 갱신 (프로필 변경분) 용
+CREATE INDEX IF NOT EXISTS idx_user_profile_updated_at
+    ON userservice.p_user_profile (updated_at);
@@ -0,0 +1,38 @@
+-- social_account: @ElementCollection → 자식 엔티티 전환
+-- 자체 PK(id) 추가 + (provider, provider_user_id) 유니크 제약
+
+-- 기존 행에도 identity 값이 채워진다.
+ALTER TABLE userservice.social_account
+    ADD COLUMN IF NOT EXISTS id BIGINT GENERATED BY DEFAULT AS IDENTITY;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint
+        WHERE conrelid = 'userservice.social_account'::regclass AND contype = 'p'
+    ) THEN
+        ALTER TABLE userservice.social_account
+            ADD CONSTRAINT pk_social_account PRIMARY KEY (id);
+    END IF;
+END $$;
+
+-- 같은 소셜 계정이 여러 행에 있으면 가장 먼저 저장된 행만 남긴다.
+DELETE FROM userservice.social_account a
+USING userservice.social_account b
+WHERE a.provider = b.provider
+  AND a.provider_user_id = b.provider_user_id
+  AND a.id > b.id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint WHERE conname = 'uk_social_account_provider_user'
+    ) THEN
+        ALTER TABLE userservice.social_account
+            ADD CONSTRAINT uk_social_account_provider_user UNIQUE (provider, provider_user_id);
+    END IF;
+END $$;
+
+-- 유저별 소셜 계정 조회 (컬렉션 로딩)
+CREATE INDEX IF NOT EXISTS idx_social_account_user
+    ON userservice.social_account (user_id);
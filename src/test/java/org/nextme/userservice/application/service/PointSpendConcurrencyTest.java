@@ -0,0 +1,88 @@
+package org.nextme.userservice.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.nextme.userservice.domain.User;
+import org.nextme.userservice.domain.UserId;
+import org.nextme.userservice.domain.UserRole;
+import org.nextme.userservice.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 UPDATE 기반 포인트 차감의 동시성 검증
+ * - 각 요청이 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PointSpendService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointSpendConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 150;
+
+    @Autowired
+    private PointSpendService pointSpendService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentSpendsNeverOverdraw() throws Exception {
+        User user = User.createLocalUser(UserId.newId(), "spender", "pw", UserRole.USER, "spender", null);
+        user.addPoint(1000L);
+        UserId userId = userRepository.save(user).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    pointSpendService.spend(userId, 10L);
+                    succeeded.incrementAndGet();
+                } catch (ApplicationException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 1000 포인트 / 10 = 정확히 100건만 성공, 잔액은 절대 음수가 되지 않는다.
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - 100);
+        assertThat(userRepository.findById(userId).orElseThrow().getPoint()).isZero();
+    }
+}
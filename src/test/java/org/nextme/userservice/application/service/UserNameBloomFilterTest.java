@@ -0,0 +1,51 @@
+package org.nextme.userservice.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 ID Bloom 필터 검증
+ * - 넣은 이름은 항상 true (거짓 음성 없음)
+ * - 넣지 않은 이름의 오탐률이 목표치 근처
+ */
+class UserNameBloomFilterTest {
+
+    private static final int INSERTIONS = 50_000;
+
+    @Test
+    void insertedNamesAreAlwaysReported() {
+        UserNameBloomFilter filter = UserNameBloomFilter.create(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        UserNameBloomFilter filter = UserNameBloomFilter.create(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("free" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / (double) INSERTIONS).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        UserNameBloomFilter filter = UserNameBloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.mightContain("kim123")).isFalse();
+        assertThat(filter.insertions()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package org.nextme.userservice.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 계정 연결/해제 시 발생하는 SQL 수 검증
+ * - 연결: INSERT 1건 (기존 소셜 계정 행 삭제/재삽입 없음)
+ * - 해제: 컬렉션 로딩 SELECT 1건 + DELETE 1건
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SocialAccountWriteTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        User user = User.createWithSocial(
+                UserId.newId(),
+                "kakao-user",
+                SocialAccount.of(SocialProvider.KAKAO, "kakao-1", "kakao@nextme.org"),
+                "kakao_1",
+                "random-password"
+        );
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.clear();
+        userId = user.getId();
+    }
+
+    @Test
+    void linkingSecondProviderIsSingleInsert() {
+        User user = entityManager.find(User.class, userId);
+        statistics.clear();
+
+        user.addSocialAccount(SocialAccount.of(SocialProvider.GOOGLE, "google-1", "google@nextme.org"));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+
+    @Test
+    void unlinkingDeletesOnlyThatRow() {
+        User user = entityManager.find(User.class, userId);
+        user.addSocialAccount(SocialAccount.of(SocialProvider.GOOGLE, "google-1", "google@nextme.org"));
+        entityManager.flush();
+        entityManager.clear();
+
+        user = entityManager.find(User.class, userId);
+        statistics.clear();
+
+        user.removeSocialAccount(SocialAccount.of(SocialProvider.KAKAO, "kakao-1", null));
+        entityManager.flush();
+
+        // 컬렉션 로딩 SELECT 1 + DELETE 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(user.getSocialAccounts())
+                .extracting(SocialAccount::getProvider)
+                .containsExactly(SocialProvider.GOOGLE);
+    }
+}
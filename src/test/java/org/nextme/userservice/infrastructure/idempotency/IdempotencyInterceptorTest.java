@@ -0,0 +1,164 @@
+package org.nextme.userservice.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.infrastructure.exception.ApplicationException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Idempotency-Key 처리 검증 (Redis 대신 메모리 저장소)
+ * - 같은 키 + 같은 본문: 첫 응답 재사용
+ * - 처리 중인 같은 키: 첫 요청이 끝날 때까지 기다렸다가 같은 응답
+ * - 같은 키 + 다른 본문: 실행/재응답 없이 거절 (IDEMPOTENCY_KEY_REUSED)
+ */
+class IdempotencyInterceptorTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CountDownLatch entered;
+    private CountDownLatch proceed;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        entered = new CountDownLatch(1);
+        proceed = new CountDownLatch(0);
+        mockMvc = MockMvcBuilders.standaloneSetup(new SignupController())
+                .addFilters(new IdempotencyRequestBodyFilter())
+                .addInterceptors(new IdempotencyInterceptor(
+                        new InMemoryIdempotencyStore(),
+                        meterRegistry,
+                        Duration.ofSeconds(30),
+                        Duration.ofHours(1),
+                        Duration.ofSeconds(5),
+                        Duration.ofMillis(10)
+                ))
+                .setControllerAdvice(new IdempotencyResponseAdvice(new ObjectMapper()))
+                .build();
+    }
+
+    @Test
+    void duplicateRequestReplaysFirstResponse() throws Exception {
+        MockHttpServletResponse first = signup("key-1", "{\"userName\":\"kim\"}");
+        MockHttpServletResponse second = signup("key-1", "{\"userName\":\"kim\"}");
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirst() throws Exception {
+        proceed = new CountDownLatch(1);
+
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> signupUnchecked("key-2", "{\"userName\":\"lee\"}"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<MockHttpServletResponse> second =
+                CompletableFuture.supplyAsync(() -> signupUnchecked("key-2", "{\"userName\":\"lee\"}"));
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+
+        proceed.countDown();
+        MockHttpServletResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse secondResponse = second.get(5, TimeUnit.SECONDS);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(secondResponse.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(secondResponse.getContentAsString()).isEqualTo(firstResponse.getContentAsString());
+        assertThat(meterRegistry.counter("http.idempotency", "result", "replayed_after_wait").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void mismatchedBodyIsRejected() throws Exception {
+        signup("key-3", "{\"userName\":\"park\"}");
+
+        assertThatThrownBy(() -> signup("key-3", "{\"userName\":\"choi\"}"))
+                .hasRootCauseInstanceOf(ApplicationException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("http.idempotency", "result", "mismatch").count()).isEqualTo(1.0);
+    }
+
+    private MockHttpServletResponse signup(String idempotencyKey, String body) throws Exception {
+        return mockMvc.perform(post("/signup")
+                        .header(IdempotencyInterceptor.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn()
+                .getResponse();
+    }
+
+    private MockHttpServletResponse signupUnchecked(String idempotencyKey, String body) {
+        try {
+            return signup(idempotencyKey, body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RestController
+    class SignupController {
+
+        @Idempotent
+        @PostMapping("/signup")
+        Map<String, Object> signup(@RequestBody Map<String, String> request) throws InterruptedException {
+            entered.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return Map.of("userName", request.get("userName"), "call", calls.incrementAndGet());
+        }
+    }
+
+    /** Redis SET NX / GET / SET / DEL 대신 ConcurrentHashMap */
+    static class InMemoryIdempotencyStore extends IdempotencyStore {
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        InMemoryIdempotencyStore() {
+            super(null, new ObjectMapper());
+        }
+
+        @Override
+        public boolean tryAcquire(String key, String fingerprint, Duration lockTtl) {
+            return entries.putIfAbsent(key, new Entry(fingerprint, null)) == null;
+        }
+
+        @Override
+        public Entry find(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void complete(String key, String fingerprint, StoredResponse response, Duration ttl) {
+            entries.put(key, new Entry(fingerprint, response));
+        }
+
+        @Override
+        public void release(String key) {
+            entries.remove(key);
+        }
+    }
+}
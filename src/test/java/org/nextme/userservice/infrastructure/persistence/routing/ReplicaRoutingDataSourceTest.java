@@ -0,0 +1,142 @@
+package org.nextme.userservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * readOnly 라우팅 검증 (임베디드 DB 두 개를 primary / replica 로 사용)
+ * - 각 DB 의 db_role 테이블 값으로 실제로 어느 쪽에서 읽었는지 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000001";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private final List<String> recordedWrites = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        Routing routing = routing("SELECT 0");
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        Routing routing = routing("SELECT 30");
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void failedLagCheckFallsBackToPrimary() {
+        Routing routing = routing("SELECT no_such_column FROM db_role");
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsAfterOwnWriteStickToPrimary() {
+        Routing routing = routing("SELECT 0");
+        ReadYourWritesContext.begin(USER_ID, () -> false);
+
+        assertThat(routing.read()).isEqualTo("replica");
+        routing.write();
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(recordedWrites).containsExactly(USER_ID);
+    }
+
+    @Test
+    void recentWriteFromEarlierRequestSticksToPrimary() {
+        Routing routing = routing("SELECT 0");
+        ReadYourWritesContext.begin(USER_ID, () -> true);
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    // ==========================
+    //  헬퍼
+    // ==========================
+
+    private EmbeddedDatabase embedded(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO db_role (name) VALUES (?)", role);
+        return database;
+    }
+
+    private Routing routing(String lagQuery) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(1), meterRegistry);
+        monitor.refresh();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, monitor, recordedWrites::add, meterRegistry));
+        return new Routing(dataSource);
+    }
+
+    private static final class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readTx;
+        private final TransactionTemplate writeTx;
+
+        private Routing(LazyConnectionDataSourceProxy dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readTx = new TransactionTemplate(transactionManager);
+            this.readTx.setReadOnly(true);
+            this.writeTx = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readTx.execute(status -> currentRole());
+        }
+
+        private String write() {
+            return writeTx.execute(status -> {
+                jdbcTemplate.update("UPDATE db_role SET name = name");
+                return currentRole();
+            });
+        }
+
+        private String currentRole() {
+            return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+        }
+    }
+}